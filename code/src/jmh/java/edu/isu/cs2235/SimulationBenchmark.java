@@ -0,0 +1,97 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.random.SplittableRandomStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end benchmark of the simulation engine across a grid of arrival rates,
+ * queue counts and iteration counts. The score is wall time per run; the
+ * auxiliary counters report simulated minutes and customers served per second,
+ * and the gc profiler (enabled in build.gradle) adds GC counts and allocated
+ * bytes per run.
+ *
+ * @author Brigham Campbell
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulationBenchmark {
+
+    @Param({"2", "18", "200"})
+    public int arrivalRate;
+
+    @Param({"1", "10", "100"})
+    public int numberOfQueues;
+
+    @Param({"1", "50"})
+    public int numIterations;
+
+    // only changes the time-stepped engine, narrow it with -p queueBackend=... when timing that alone
+    @Param({"PRIMITIVE", "ARRAY", "LINKED", "CONCURRENT"})
+    public QueueBackend queueBackend;
+
+    private Simulation simulation;
+    private EventSimulation eventSimulation;
+
+    /**
+     * Simulated work done, reported by JMH as a rate per second next to the
+     * score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public long simulatedMinutes;
+        public long customersServed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            simulatedMinutes = 0;
+            customersServed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = new Simulation(arrivalRate, numberOfQueues, numIterations, new SplittableRandomStream(1024), queueBackend);
+        eventSimulation = new EventSimulation(arrivalRate, numberOfQueues, numIterations, 1024);
+    }
+
+    /**
+     * Every iteration of a single configuration. A full runSimulation sweep is
+     * the sum of these over queue counts 1 to maxNumQueues.
+     */
+    @Benchmark
+    public SimulationResult configuration(Throughput throughput) {
+        SimulationResult result = simulation.simulate(numberOfQueues);
+        throughput.simulatedMinutes += result.getMinutesSimulated();
+        throughput.customersServed += result.getNumberOfPeopleServed();
+        return result;
+    }
+
+    /**
+     * The same configuration run on the discrete-event engine.
+     */
+    @Benchmark
+    public SimulationResult eventConfiguration(Throughput throughput) {
+        SimulationResult result = eventSimulation.simulate(numberOfQueues);
+        throughput.simulatedMinutes += result.getMinutesSimulated();
+        throughput.customersServed += result.getNumberOfPeopleServed();
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Deque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the Deque implementations at a range of sizes, working both
+ * ends. Each benchmark leaves the deque the same size it found it.
+ *
+ * @author Brigham Campbell
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DequeBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    @Param({"linked", "array", "int", "stealing"})
+    public String implementation;
+
+    @Param({"16", "1024", "16384"})
+    public int size;
+
+    private Deque<Integer> deque;
+    private Deque<Integer> spare;
+
+    static Deque<Integer> newDeque(String implementation) {
+        switch(implementation) {
+            case "linked":
+                return new LinkedDeque<>();
+            case "array":
+                return new ArrayDeque<>();
+            case "int":
+                return new IntArrayDeque();
+            case "stealing":
+                return new WorkStealingDeque<>();
+            default:
+                throw new IllegalArgumentException("Unknown deque implementation: " + implementation);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        deque = newDeque(implementation);
+        for(int i = 0; i < size; i++)
+            deque.offer(i);
+        spare = newDeque(implementation);
+    }
+
+    @Benchmark
+    public Integer offerFirstPollLast() {
+        deque.offerFirst(VALUE);
+        return deque.pollLast();
+    }
+
+    @Benchmark
+    public void bothEnds(Blackhole blackhole) {
+        deque.offerFirst(VALUE);
+        deque.offer(VALUE);
+        blackhole.consume(deque.poll());
+        blackhole.consume(deque.pollLast());
+    }
+
+    @Benchmark
+    public void peekBothEnds(Blackhole blackhole) {
+        blackhole.consume(deque.peek());
+        blackhole.consume(deque.peekLast());
+    }
+
+    @Benchmark
+    public Deque<Integer> transfer() {
+        deque.transfer(spare);
+        spare.transfer(deque);
+        return deque;
+    }
+
+    @Benchmark
+    public Deque<Integer> reverse() {
+        deque.reverse();
+        return deque;
+    }
+
+    @Benchmark
+    public Deque<Integer> merge() {
+        Deque<Integer> into = newDeque(implementation);
+        into.merge(deque);
+        return into;
+    }
+}
@@ -0,0 +1,80 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of handing elements from producer threads to one consumer
+ * thread through the concurrent queues. The producer and consumer run
+ * concurrently in one JMH group; each returns immediately when the queue is
+ * full or empty, so the numbers are successful operations per second rather
+ * than time spent waiting.
+ *
+ * @author Brigham Campbell
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class HandoffBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    @Param({"spsc", "mpsc", "lockfree"})
+    public String implementation;
+
+    private RingBufferQueue<Integer> ring;
+    private LockFreeQueue<Integer> lockFree;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch(implementation) {
+            case "spsc":
+                ring = new SpscArrayQueue<>(1024);
+                break;
+            case "mpsc":
+                ring = new MpscArrayQueue<>(1024);
+                break;
+            case "lockfree":
+                lockFree = new LockFreeQueue<>();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(1)
+    public boolean offer() {
+        if(ring != null)
+            return ring.tryOffer(VALUE);
+        // unbounded, so don't let the producer run away from the consumer
+        if(lockFree.size() >= 1024)
+            return false;
+        lockFree.offer(VALUE);
+        return true;
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(1)
+    public Integer poll() {
+        return ring != null ? ring.poll() : lockFree.poll();
+    }
+}
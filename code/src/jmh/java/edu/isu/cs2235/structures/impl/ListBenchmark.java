@@ -0,0 +1,94 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of index based access on the List implementations, at the head,
+ * middle and tail of lists of a range of sizes. Each benchmark leaves the list
+ * the same size it found it.
+ *
+ * @author Brigham Campbell
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    @Param({"doubly", "circular", "unrolled"})
+    public String implementation;
+
+    @Param({"16", "1024", "16384"})
+    public int size;
+
+    @Param({"head", "middle", "tail"})
+    public String position;
+
+    private List<Integer> list;
+    private int index;
+
+    static List<Integer> newList(String implementation) {
+        switch(implementation) {
+            case "doubly":
+                return new DoublyLinkedList<>();
+            case "circular":
+                return new CircularArrayList<>();
+            case "unrolled":
+                return new UnrolledLinkedList<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = newList(implementation);
+        for(int i = 0; i < size; i++)
+            list.addLast(i);
+        switch(position) {
+            case "head":
+                index = 1;
+                break;
+            case "middle":
+                index = size / 2;
+                break;
+            default:
+                index = size - 2;
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(index);
+    }
+
+    @Benchmark
+    public Integer insertRemove() {
+        list.insert(VALUE, index);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public void sequentialGet(Blackhole blackhole) {
+        for(int i = 0; i < size; i++)
+            blackhole.consume(list.get(i));
+    }
+}
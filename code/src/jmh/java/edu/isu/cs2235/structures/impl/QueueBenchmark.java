@@ -0,0 +1,101 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Queue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the Queue implementations at a range of sizes. Each benchmark
+ * leaves the queue the same size it found it, so the size parameter holds for
+ * the whole iteration.
+ *
+ * @author Brigham Campbell
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+
+    // boxed once up front so boxing isn't what gets measured
+    private static final Integer VALUE = 42;
+
+    @Param({"linked", "pooled", "array", "int", "lockfree"})
+    public String implementation;
+
+    @Param({"16", "1024", "16384"})
+    public int size;
+
+    private Queue<Integer> queue;
+    private Queue<Integer> spare;
+
+    static Queue<Integer> newQueue(String implementation) {
+        switch(implementation) {
+            case "linked":
+                return new LinkedQueue<>();
+            case "pooled":
+                return new LinkedQueue<>(64);
+            case "array":
+                return new ArrayQueue<>();
+            case "int":
+                return new IntArrayQueue();
+            case "lockfree":
+                return new LockFreeQueue<>();
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + implementation);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = newQueue(implementation);
+        for(int i = 0; i < size; i++)
+            queue.offer(i);
+        spare = newQueue(implementation);
+    }
+
+    @Benchmark
+    public Integer offerPoll() {
+        queue.offer(VALUE);
+        return queue.poll();
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return queue.peek();
+    }
+
+    @Benchmark
+    public Queue<Integer> transfer() {
+        // there and back again, so the queue ends up where it started
+        queue.transfer(spare);
+        spare.transfer(queue);
+        return queue;
+    }
+
+    @Benchmark
+    public Queue<Integer> reverse() {
+        queue.reverse();
+        return queue;
+    }
+
+    @Benchmark
+    public Queue<Integer> merge() {
+        Queue<Integer> into = newQueue(implementation);
+        into.merge(queue);
+        return into;
+    }
+}
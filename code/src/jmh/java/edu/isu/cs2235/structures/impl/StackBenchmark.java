@@ -0,0 +1,97 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Stack;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the Stack implementations at a range of sizes. Each benchmark
+ * leaves the stack the same size it found it, so the size parameter holds for
+ * the whole iteration.
+ *
+ * @author Brigham Campbell
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+
+    private static final Integer VALUE = 42;
+
+    @Param({"linked", "array", "int", "elimination"})
+    public String implementation;
+
+    @Param({"16", "1024", "16384"})
+    public int size;
+
+    private Stack<Integer> stack;
+    private Stack<Integer> spare;
+
+    static Stack<Integer> newStack(String implementation) {
+        switch(implementation) {
+            case "linked":
+                return new LinkedStack<>();
+            case "array":
+                return new ArrayStack<>();
+            case "int":
+                return new IntArrayStack();
+            case "elimination":
+                return new EliminationBackoffStack<>();
+            default:
+                throw new IllegalArgumentException("Unknown stack implementation: " + implementation);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stack = newStack(implementation);
+        for(int i = 0; i < size; i++)
+            stack.push(i);
+        spare = newStack(implementation);
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(VALUE);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return stack.peek();
+    }
+
+    @Benchmark
+    public Stack<Integer> transfer() {
+        stack.transfer(spare);
+        spare.transfer(stack);
+        return stack;
+    }
+
+    @Benchmark
+    public Stack<Integer> reverse() {
+        stack.reverse();
+        return stack;
+    }
+
+    @Benchmark
+    public Stack<Integer> merge() {
+        Stack<Integer> into = newStack(implementation);
+        into.merge(stack);
+        return into;
+    }
+}
@@ -1,8 +1,15 @@
 package edu.isu.cs2235;
 
+import edu.isu.cs2235.random.SplittableRandomStream;
+import java.util.concurrent.ForkJoinPool;
+
 public class Driver {
-    public static void main(String[] args) {
-        Simulation sim = new Simulation(18, 10, 50, 1024);
-        sim.runSimulation();
+    /**
+     * @param args optionally the name of the QueueBackend to run on, e.g. LINKED; PRIMITIVE if omitted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        QueueBackend backend = args.length > 0 ? QueueBackend.valueOf(args[0].toUpperCase()) : QueueBackend.PRIMITIVE;
+        Simulation sim = new Simulation(18, 10, 50, new SplittableRandomStream(1024), backend);
+        sim.runSimulation(ForkJoinPool.commonPool());
     }
 }
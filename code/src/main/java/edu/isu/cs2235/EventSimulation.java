@@ -0,0 +1,264 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.random.RandomStream;
+import edu.isu.cs2235.random.ServiceTimeSampler;
+import edu.isu.cs2235.random.SplittableRandomStream;
+import edu.isu.cs2235.stats.StreamingStatistics;
+import edu.isu.cs2235.structures.impl.IndexedMinHeap;
+
+/**
+ * A discrete-event version of the wait time simulation. Instead of ticking a
+ * clock once a minute and visiting every queue on every tick, arrivals and
+ * service completions are scheduled on an event queue and the clock jumps
+ * straight from one event to the next. Time is continuous, so people arrive
+ * at fractional minutes (a Poisson process with the given arrival rate) and
+ * each service time is drawn from a ServiceModel, which can follow any
+ * distribution. The cost of a run is proportional to the number of people
+ * who pass through, not to the length of the horizon times the number of
+ * queues.
+ *
+ * As in Simulation, each arrival joins the line with the fewest people in it
+ * (counting those being served) and each line is served first come first
+ * served by whichever of its counter's servers comes free. People still
+ * waiting when the horizon is reached are not counted.
+ *
+ * @author Brigham Campbell
+ */
+public class EventSimulation {
+
+    private static final double DEFAULT_HORIZON = 720;
+    // waits are fractional, so quantiles are sketched to a 64th of a minute
+    private static final double WAIT_RESOLUTION = 1.0 / 64;
+
+    private double arrivalRate;
+    private int maxNumQueues;
+    private int numIterations;
+    private double horizon;
+    private ServiceModel serviceModel;
+    private RandomStream random;
+
+    /**
+     * Constructs a new event-driven simulation over a 720 minute day where each counter takes half
+     * a minute per person, the same as Simulation's two people per minute.
+     *
+     * @param arrivalRate the average number of people to arrive each minute
+     * @param maxNumQueues the maximum number of lines that are open
+     * @param numIterations the number of iterations used to improve data
+     * @param seed the initial seed value for the random number generator
+     */
+    public EventSimulation(double arrivalRate, int maxNumQueues, int numIterations, long seed) {
+        this(arrivalRate, maxNumQueues, numIterations, DEFAULT_HORIZON, ServiceModel.TWO_PER_MINUTE, new SplittableRandomStream(seed));
+    }
+
+    /**
+     * Constructs a new event-driven simulation where each counter has one server taking exactly
+     * the given time per person.
+     *
+     * @param arrivalRate the average number of people to arrive each minute
+     * @param maxNumQueues the maximum number of lines that are open
+     * @param numIterations the number of iterations used to improve data
+     * @param horizon the number of minutes simulated by each iteration, which need not be whole
+     * @param serviceMinutes the number of minutes a counter spends on each person
+     * @param random the random number generator the iterations' streams are derived from
+     */
+    public EventSimulation(double arrivalRate, int maxNumQueues, int numIterations, double horizon, double serviceMinutes, RandomStream random) {
+        this(arrivalRate, maxNumQueues, numIterations, horizon, new ServiceModel(ServiceTimeSampler.fixed(serviceMinutes)), random);
+    }
+
+    /**
+     * Constructs a new event-driven simulation whose counters serve people according to the
+     * provided model. Service times are drawn from a stream of their own, so changing the model
+     * never changes who arrives when.
+     *
+     * @param arrivalRate the average number of people to arrive each minute
+     * @param maxNumQueues the maximum number of lines that are open
+     * @param numIterations the number of iterations used to improve data
+     * @param horizon the number of minutes simulated by each iteration, which need not be whole
+     * @param serviceModel how long each counter takes per person and how many servers it has
+     * @param random the random number generator the iterations' streams are derived from
+     */
+    public EventSimulation(double arrivalRate, int maxNumQueues, int numIterations, double horizon, ServiceModel serviceModel, RandomStream random) {
+        if(!(arrivalRate > 0) || Double.isInfinite(arrivalRate))
+            throw new IllegalArgumentException("Arrival rate must be positive and finite: " + arrivalRate);
+        if(maxNumQueues < 1)
+            throw new IllegalArgumentException("At least one queue must be open: " + maxNumQueues);
+        if(numIterations < 1)
+            throw new IllegalArgumentException("At least one iteration must be run: " + numIterations);
+        if(!(horizon > 0) || Double.isInfinite(horizon))
+            throw new IllegalArgumentException("Horizon must be positive and finite: " + horizon);
+        if(serviceModel == null)
+            throw new IllegalArgumentException("A service model is required");
+        if(random == null)
+            throw new IllegalArgumentException("A random number generator is required");
+        this.arrivalRate = arrivalRate;
+        this.maxNumQueues = maxNumQueues;
+        this.numIterations = numIterations;
+        this.horizon = horizon;
+        this.serviceModel = serviceModel;
+        this.random = random;
+    }
+
+    /**
+     * Executes the Simulation and prints the results.
+     */
+    public void runSimulation() {
+        SimulationResult.print(arrivalRate, simulate());
+    }
+
+    /**
+     * Simulates every number of queues from 1 up to the maximum.
+     *
+     * @return the result for each number of queues, where index 0 holds the result for 1 queue
+     */
+    public SimulationResult[] simulate() {
+        SimulationResult[] results = new SimulationResult[maxNumQueues];
+        for(int numberOfQueues = 1; numberOfQueues <= maxNumQueues; numberOfQueues++) {
+            results[numberOfQueues - 1] = simulate(numberOfQueues);
+        }
+        return results;
+    }
+
+    /**
+     * Simulates a single number of open queues. Iterations only touch their own state, so
+     * separate queue counts may be simulated concurrently.
+     *
+     * @param numberOfQueues the number of lines that are open
+     * @return the result of all iterations with that many queues
+     */
+    public SimulationResult simulate(int numberOfQueues) {
+        if(numberOfQueues < 1)
+            throw new IllegalArgumentException("At least one queue must be open: " + numberOfQueues);
+        StreamingStatistics[] minutesWaited = newStatistics(numberOfQueues);
+        StreamingStatistics iterationAverages = new StreamingStatistics(WAIT_RESOLUTION);
+        for(int iteration = 0; iteration < numIterations; iteration++) {
+            StreamingStatistics[] day = newStatistics(numberOfQueues);
+            runIteration(numberOfQueues, iteration, day);
+            iterationAverages.add(SimulationResult.averageOfMeans(day));
+            for(int i = 0; i < numberOfQueues; i++) {
+                minutesWaited[i].merge(day[i]);
+            }
+        }
+
+        return new SimulationResult(numIterations, (long) Math.ceil(numIterations * horizon), minutesWaited, iterationAverages);
+    }
+
+    private static StreamingStatistics[] newStatistics(int numberOfQueues) {
+        StreamingStatistics[] statistics = new StreamingStatistics[numberOfQueues];
+        for(int i = 0; i < numberOfQueues; i++) {
+            statistics[i] = new StreamingStatistics(WAIT_RESOLUTION);
+        }
+        return statistics;
+    }
+
+    private void runIteration(int numberOfQueues, int iteration, StreamingStatistics[] minutesWaited) {
+        RandomStream stream = random.substream(((long) numberOfQueues << 32) | iteration);
+        // a stream of its own, so the arrivals are the same whatever the service model draws
+        RandomStream serviceStream = stream.substream(0);
+
+        // every server gets its own completion slot, each counter's side by side
+        Counter[] counters = new Counter[numberOfQueues];
+        int numberOfServers = 0;
+        for(int i = 0; i < numberOfQueues; i++) {
+            counters[i] = new Counter(numberOfServers, serviceModel.getServers(i));
+            numberOfServers += counters[i].servers;
+        }
+        int[] counterOf = new int[numberOfServers];
+        for(int i = 0; i < numberOfQueues; i++) {
+            for(int s = 0; s < counters[i].servers; s++) {
+                counterOf[counters[i].firstSlot + s] = i;
+            }
+        }
+        IndexedMinHeap lengths = new IndexedMinHeap(numberOfQueues);
+
+        // slots 0 to numberOfServers - 1 are service completions, the last one is the next arrival
+        int arrivalSlot = numberOfServers;
+        // each slot's key is when it next fires, infinity while it has nothing scheduled
+        IndexedMinHeap events = new IndexedMinHeap(numberOfServers + 1, Double.POSITIVE_INFINITY);
+        events.set(arrivalSlot, nextArrival(0, stream));
+
+        while(events.minKey() < horizon) {
+            double now = events.minKey();
+            int slot = events.minIndex();
+
+            if(slot == arrivalSlot) {
+                int shortest = lengths.minIndex();
+                Counter counter = counters[shortest];
+                lengths.increment(shortest);
+                int server = counter.idleSlot(events);
+                if(server < 0) {
+                    counter.offer(now);
+                } else {
+                    // walked straight up to an idle server
+                    minutesWaited[shortest].add(0);
+                    events.set(server, now + serviceModel.serviceMinutes(shortest, serviceStream));
+                }
+                events.set(arrivalSlot, nextArrival(now, stream));
+            } else {
+                int index = counterOf[slot];
+                Counter counter = counters[index];
+                lengths.decrement(index);
+                if(counter.isEmpty()) {
+                    events.set(slot, Double.POSITIVE_INFINITY);
+                } else {
+                    minutesWaited[index].add(now - counter.poll());
+                    events.set(slot, now + serviceModel.serviceMinutes(index, serviceStream));
+                }
+            }
+        }
+    }
+
+    // Gaps between arrivals of a Poisson process are exponentially distributed
+    private double nextArrival(double now, RandomStream stream) {
+        return now - Math.log(1.0 - stream.nextDouble()) / arrivalRate;
+    }
+
+    /**
+     * A single counter: the event slots of its servers, and the arrival times
+     * of the people waiting in its line, kept in a growable ring.
+     */
+    private static class Counter {
+        private final int firstSlot;
+        private final int servers;
+        private double[] waiting = new double[16];
+        private int head;
+        private int size;
+
+        Counter(int firstSlot, int servers) {
+            this.firstSlot = firstSlot;
+            this.servers = servers;
+        }
+
+        // The slot of a server with nothing scheduled, or -1 if all are busy
+        int idleSlot(IndexedMinHeap events) {
+            for(int slot = firstSlot; slot < firstSlot + servers; slot++) {
+                if(events.key(slot) == Double.POSITIVE_INFINITY)
+                    return slot;
+            }
+            return -1;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void offer(double arrivalTime) {
+            if(size == waiting.length) {
+                double[] grown = new double[waiting.length << 1];
+                int firstRun = waiting.length - head;
+                System.arraycopy(waiting, head, grown, 0, firstRun);
+                System.arraycopy(waiting, 0, grown, firstRun, head);
+                waiting = grown;
+                head = 0;
+            }
+            waiting[(head + size) & (waiting.length - 1)] = arrivalTime;
+            size++;
+        }
+
+        double poll() {
+            double arrivalTime = waiting[head];
+            head = (head + 1) & (waiting.length - 1);
+            size--;
+            return arrivalTime;
+        }
+    }
+}
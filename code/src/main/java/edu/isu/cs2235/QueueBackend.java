@@ -0,0 +1,62 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.structures.Queue;
+import edu.isu.cs2235.structures.impl.ArrayQueue;
+import edu.isu.cs2235.structures.impl.IntArrayQueue;
+import edu.isu.cs2235.structures.impl.LinkedQueue;
+import edu.isu.cs2235.structures.impl.LockFreeQueue;
+
+/**
+ * The queue implementations a Simulation can run on out of the box. They all
+ * give the same results for the same seed; only the speed and the garbage
+ * produced differ, so the backend can be picked by name (for example from the
+ * command line or a benchmark parameter) without touching any code.
+ *
+ * @author Brigham Campbell
+ */
+public enum QueueBackend implements QueueFactory {
+
+    /**
+     * LinkedQueue, which allocates a node and boxes the arrival minute for
+     * every customer.
+     */
+    LINKED {
+        @Override
+        public Queue<Integer> newQueue() {
+            return new LinkedQueue<>();
+        }
+    },
+
+    /**
+     * ArrayQueue, which stores boxed minutes in a growable circular array.
+     */
+    ARRAY {
+        @Override
+        public Queue<Integer> newQueue() {
+            return new ArrayQueue<>();
+        }
+    },
+
+    /**
+     * IntArrayQueue, which stores the minutes unboxed and allocates nothing
+     * per customer once it has grown. The default.
+     */
+    PRIMITIVE {
+        @Override
+        public Queue<Integer> newQueue() {
+            return new IntArrayQueue();
+        }
+    },
+
+    /**
+     * LockFreeQueue, the thread-safe queue. Each simulated day only ever uses
+     * its queues from one thread, so this mostly measures what the
+     * thread-safety costs.
+     */
+    CONCURRENT {
+        @Override
+        public Queue<Integer> newQueue() {
+            return new LockFreeQueue<>();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.structures.Queue;
+
+/**
+ * Builds the queues a Simulation lines its customers up in. The simulation
+ * asks for a new queue for every counter in every iteration, so an
+ * implementation must hand back a fresh, empty queue each time and must be
+ * safe to call from several threads at once when the simulation runs on an
+ * executor. QueueBackend has the built-in choices.
+ *
+ * @author Brigham Campbell
+ */
+@FunctionalInterface
+public interface QueueFactory {
+
+    /**
+     * @return a new, empty queue that no one else holds a reference to.
+     */
+    Queue<Integer> newQueue();
+}
@@ -0,0 +1,40 @@
+package edu.isu.cs2235;
+
+/**
+ * A target the waits of a simulated configuration either meet or miss, such
+ * as "an average wait of at most 2 minutes" or "95% of people wait at most 5
+ * minutes". StaffingOptimizer searches for the fewest counters meeting one,
+ * which assumes that if a number of counters meets the target, so does any
+ * larger number.
+ *
+ * @author Brigham Campbell
+ */
+@FunctionalInterface
+public interface ServiceLevel {
+
+    /**
+     * @param result the result of simulating one number of open queues
+     * @return whether the waits in the result meet the target.
+     */
+    boolean isMetBy(SimulationResult result);
+
+    /**
+     * @param minutes the longest acceptable average wait
+     * @return a target on {@link SimulationResult#getAverageTimeWaited()}
+     */
+    static ServiceLevel averageWaitAtMost(double minutes) {
+        return result -> result.getAverageTimeWaited() <= minutes;
+    }
+
+    /**
+     * @param quantile the share of people, between 0 and 1, who must wait no longer than the
+     *                 given time, e.g. 0.95
+     * @param minutes the longest acceptable wait at that quantile
+     * @return a target on the given quantile of everyone's wait
+     */
+    static ServiceLevel quantileWaitAtMost(double quantile, double minutes) {
+        if(!(quantile >= 0 && quantile <= 1))
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        return result -> result.getWaitStatistics().getQuantile(quantile) <= minutes;
+    }
+}
@@ -0,0 +1,108 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.random.RandomStream;
+import edu.isu.cs2235.random.ServiceTimeSampler;
+import java.util.Arrays;
+
+/**
+ * How the counters of a Simulation serve the people in their lines. Every
+ * counter draws its service times from the same distribution, divided by the
+ * counter's speed, so a counter with speed 2 takes half as long on average as
+ * one with speed 1. A counter may also have several servers working the one
+ * line, each taking the next person as soon as they are free.
+ *
+ * Speeds and server counts are given per counter, starting with the first
+ * counter opened; counters beyond the end of either array reuse its last
+ * entry, and an empty array means speed 1 and one server for every counter.
+ * Models are immutable and can be shared between threads.
+ *
+ * @author Brigham Campbell
+ */
+public final class ServiceModel {
+
+    private static final double[] NO_SPEEDS = new double[0];
+    private static final int[] NO_SERVERS = new int[0];
+
+    /**
+     * One server per counter taking exactly half a minute per person, so every
+     * counter serves two people a minute.
+     */
+    public static final ServiceModel TWO_PER_MINUTE = new ServiceModel(ServiceTimeSampler.fixed(0.5));
+
+    private final ServiceTimeSampler serviceTime;
+    private final double[] speeds;
+    private final int[] servers;
+
+    /**
+     * Constructs a model where every counter has one server working at speed 1.
+     *
+     * @param serviceTime the distribution of the minutes spent on each person
+     */
+    public ServiceModel(ServiceTimeSampler serviceTime) {
+        this(serviceTime, NO_SPEEDS, NO_SERVERS);
+    }
+
+    /**
+     * Constructs a model with counters of differing speeds and server counts.
+     *
+     * @param serviceTime the distribution of the minutes spent on each person at speed 1
+     * @param speeds the speed of each counter's servers, all positive, copied
+     * @param servers the number of servers at each counter, all at least 1, copied
+     */
+    public ServiceModel(ServiceTimeSampler serviceTime, double[] speeds, int[] servers) {
+        if(serviceTime == null)
+            throw new IllegalArgumentException("A service time distribution is required");
+        for(double speed : speeds) {
+            if(!(speed > 0) || Double.isInfinite(speed))
+                throw new IllegalArgumentException("Counter speeds must be positive and finite: " + speed);
+        }
+        for(int count : servers) {
+            if(count < 1)
+                throw new IllegalArgumentException("Every counter needs at least one server: " + count);
+        }
+        this.serviceTime = serviceTime;
+        this.speeds = Arrays.copyOf(speeds, speeds.length);
+        this.servers = Arrays.copyOf(servers, servers.length);
+    }
+
+    /**
+     * @return the distribution of the minutes spent on each person at speed 1.
+     */
+    public ServiceTimeSampler getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * @param counter the index of the counter, starting at 0
+     * @return how many times faster than the base distribution the counter works.
+     */
+    public double getSpeed(int counter) {
+        return speeds.length == 0 ? 1.0 : speeds[Math.min(counter, speeds.length - 1)];
+    }
+
+    /**
+     * @param counter the index of the counter, starting at 0
+     * @return the number of servers working the counter's line.
+     */
+    public int getServers(int counter) {
+        return servers.length == 0 ? 1 : servers[Math.min(counter, servers.length - 1)];
+    }
+
+    /**
+     * @param counter the index of the counter, starting at 0
+     * @return the average number of people the counter serves per minute when
+     * its line never runs dry.
+     */
+    public double getCapacity(int counter) {
+        return getServers(counter) * getSpeed(counter) / serviceTime.getMean();
+    }
+
+    /**
+     * @param counter the index of the counter, starting at 0
+     * @param random the stream owned by the calling iteration
+     * @return the number of minutes one of the counter's servers spends on the next person
+     */
+    public double serviceMinutes(int counter, RandomStream random) {
+        return serviceTime.sample(random) / getSpeed(counter);
+    }
+}
@@ -1,10 +1,18 @@
 package edu.isu.cs2235;
 
+import edu.isu.cs2235.random.PoissonSampler;
+import edu.isu.cs2235.random.RandomStream;
+import edu.isu.cs2235.random.SplittableRandomStream;
+import edu.isu.cs2235.stats.StreamingStatistics;
+import edu.isu.cs2235.structures.IntQueue;
 import edu.isu.cs2235.structures.Queue;
-import edu.isu.cs2235.structures.impl.LinkedQueue;
+import edu.isu.cs2235.structures.impl.IndexedMinHeap;
 
-import java.util.Arrays;
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Class representing a wait time simulation program.
@@ -14,28 +22,34 @@ import java.util.Random;
  */
 public class Simulation {
 
+    private static final int DEFAULT_MINUTES_PER_DAY = 720;
+    // iteration averages are fractional, so their quantiles are sketched to a 64th of a minute
+    private static final double ITERATION_RESOLUTION = 1.0 / 64;
+
     private int arrivalRate;
+    private PoissonSampler arrivals;
     private int maxNumQueues;
-    private Random r;
+    private RandomStream random;
     private int numIterations = 50;
-    private Queue<Integer>[] queues;
-    private int[] numberOfPeopleThroughQueue;
-    private int[] totalMinutesWaited;
+    private QueueFactory queueFactory = QueueBackend.PRIMITIVE;
+    private ServiceModel serviceModel = ServiceModel.TWO_PER_MINUTE;
+    private int minutesPerDay = DEFAULT_MINUTES_PER_DAY;
 
     /**
-     * Constructs a new simulation with the given arrival rate and maximum number of queues. The Random
-     * number generator is seeded with the current time. This defaults to using 50 iterations.
+     * Constructs a new simulation with the given arrival rate and maximum number of queues. The random
+     * number generator is given an arbitrary seed. This defaults to using 50 iterations.
      *
      * @param arrivalRate the integer rate representing the maximum number of new people to arrive each minute
      * @param maxNumQueues the maximum number of lines that are open
      */
     public Simulation(int arrivalRate, int maxNumQueues) {
+        if(maxNumQueues < 1)
+            throw new IllegalArgumentException("At least one queue must be open: " + maxNumQueues);
         this.arrivalRate = arrivalRate;
+        arrivals = PoissonSampler.forMean(arrivalRate);
 
         this.maxNumQueues = maxNumQueues;
-        numberOfPeopleThroughQueue = new int[maxNumQueues];
-        totalMinutesWaited = new int[maxNumQueues];
-        r = new Random();
+        random = new SplittableRandomStream();
     }
 
     /**
@@ -49,87 +63,372 @@ public class Simulation {
      * @param seed the initial seed value for the random number generator
      */
     public Simulation(int arrivalRate, int maxNumQueues, int numIterations, int seed) {
+        this(arrivalRate, maxNumQueues, numIterations, new SplittableRandomStream(seed));
+    }
+
+    /**
+     * Constructs a new simulation with the given arrival rate and maximum number of queues, drawing
+     * its random numbers from the provided generator. Each iteration runs on its own substream of
+     * the generator, so results only depend on how the generator was seeded.
+     *
+     * @param arrivalRate the integer rate representing the maximum number of new people to arrive each minute
+     * @param maxNumQueues the maximum number of lines that are open
+     * @param numIterations the number of iterations used to improve data
+     * @param random the random number generator the iterations' streams are derived from
+     */
+    public Simulation(int arrivalRate, int maxNumQueues, int numIterations, RandomStream random) {
         this(arrivalRate, maxNumQueues);
-        r = new Random(seed);
+        if(numIterations < 1)
+            throw new IllegalArgumentException("At least one iteration must be run: " + numIterations);
+        if(random == null)
+            throw new IllegalArgumentException("A random number generator is required");
+        this.random = random;
         this.numIterations = numIterations;
     }
 
     /**
-     * Executes the Simulation
+     * Constructs a new simulation like {@link #Simulation(int, int, int, RandomStream)} whose lines
+     * are built by the provided factory, one new queue per counter per iteration. The results are
+     * the same whichever queue implementation the factory builds.
+     *
+     * @param arrivalRate the integer rate representing the maximum number of new people to arrive each minute
+     * @param maxNumQueues the maximum number of lines that are open
+     * @param numIterations the number of iterations used to improve data
+     * @param random the random number generator the iterations' streams are derived from
+     * @param queueFactory builds the queue for each line, e.g. one of the {@link QueueBackend}s
+     */
+    public Simulation(int arrivalRate, int maxNumQueues, int numIterations, RandomStream random, QueueFactory queueFactory) {
+        this(arrivalRate, maxNumQueues, numIterations, random);
+        if(queueFactory == null)
+            throw new IllegalArgumentException("A queue factory is required");
+        this.queueFactory = queueFactory;
+    }
+
+    /**
+     * Constructs a new simulation like {@link #Simulation(int, int, int, RandomStream, QueueFactory)}
+     * whose counters serve people according to the provided model over a day of the provided
+     * length. The other constructors use {@link ServiceModel#TWO_PER_MINUTE} and a 720 minute day.
+     * Service times are drawn from a stream of their own, so changing the model never changes who
+     * arrives when.
+     *
+     * @param arrivalRate the integer rate representing the maximum number of new people to arrive each minute
+     * @param maxNumQueues the maximum number of lines that are open
+     * @param numIterations the number of iterations used to improve data
+     * @param random the random number generator the iterations' streams are derived from
+     * @param queueFactory builds the queue for each line, e.g. one of the {@link QueueBackend}s
+     * @param serviceModel how long each counter takes per person and how many servers it has
+     * @param minutesPerDay the number of minutes simulated by each iteration
+     */
+    public Simulation(int arrivalRate, int maxNumQueues, int numIterations, RandomStream random, QueueFactory queueFactory,
+                      ServiceModel serviceModel, int minutesPerDay) {
+        this(arrivalRate, maxNumQueues, numIterations, random, queueFactory);
+        if(serviceModel == null)
+            throw new IllegalArgumentException("A service model is required");
+        if(minutesPerDay < 1)
+            throw new IllegalArgumentException("A day must last at least one minute: " + minutesPerDay);
+        this.serviceModel = serviceModel;
+        this.minutesPerDay = minutesPerDay;
+    }
+
+    /**
+     * @return the largest number of lines a sweep opens
+     */
+    public int getMaxNumQueues() {
+        return maxNumQueues;
+    }
+
+    /**
+     * Executes the Simulation one iteration at a time on the calling thread and prints the results.
      */
     public void runSimulation() {
-        System.out.println("Arrival rate: " + arrivalRate);
+        SimulationResult.print(arrivalRate, simulate());
+    }
+
+    /**
+     * Executes the Simulation on the provided executor and prints the results. The output is
+     * identical to {@link #runSimulation()} for the same seed. The executor is not shut down.
+     *
+     * @param executor executor to run the iterations on, e.g. a ForkJoinPool
+     * @throws InterruptedException if interrupted while waiting for the iterations
+     */
+    public void runSimulation(ExecutorService executor) throws InterruptedException {
+        SimulationResult.print(arrivalRate, simulate(executor));
+    }
+
+    /**
+     * Simulates every number of queues from 1 up to the maximum, one iteration at a time on the
+     * calling thread.
+     *
+     * @return the result for each number of queues, where index 0 holds the result for 1 queue
+     */
+    public SimulationResult[] simulate() {
+        SimulationResult[] results = new SimulationResult[maxNumQueues];
         for(int numberOfQueues = 1; numberOfQueues <= maxNumQueues; numberOfQueues++) {
-            totalMinutesWaited = new int[numberOfQueues];
-            numberOfPeopleThroughQueue = new int[numberOfQueues];
+            results[numberOfQueues - 1] = simulate(numberOfQueues);
+        }
+        return results;
+    }
 
+    /**
+     * Simulates every number of queues from 1 up to the maximum with every (queue count, iteration)
+     * pair submitted to the provided executor as its own task. Each task keeps its own tally and
+     * random stream, and the tallies are merged in iteration order once they are done, so the
+     * results are identical to {@link #simulate()} for the same seed. The executor is not shut
+     * down.
+     *
+     * If an iteration fails, or the wait is interrupted, the iterations still queued or running
+     * are cancelled before the exception is thrown.
+     *
+     * @param executor executor to run the iterations on, e.g. a ForkJoinPool
+     * @return the result for each number of queues, where index 0 holds the result for 1 queue
+     * @throws InterruptedException if interrupted while waiting for the iterations
+     * @throws IllegalStateException if an iteration fails, with its exception as the cause
+     */
+    public SimulationResult[] simulate(ExecutorService executor) throws InterruptedException {
+        List<List<Future<Tally>>> pending = new ArrayList<>(maxNumQueues);
+        for(int numberOfQueues = 1; numberOfQueues <= maxNumQueues; numberOfQueues++) {
+            List<Future<Tally>> iterations = new ArrayList<>(numIterations);
             for(int iteration = 0; iteration < numIterations; iteration++) {
-                queues = new Queue[numberOfQueues];
-                Arrays.fill(queues, new LinkedQueue<Integer>());
-
-                int minutes = 0;
-
-                while (minutes < 720) {
-                    int numPeopleThisMinute = getRandomNumPeople(arrivalRate);
-
-                    for (int i = 0; i < numPeopleThisMinute; i++) {
-                        getSmallestQueue(queues).offer(minutes);
-                    }
-
-                    for (int i = 0; i < numberOfQueues; i++) {
-                        if (!queues[i].isEmpty()) {
-                            totalMinutesWaited[i] += minutes - queues[i].poll();
-                            numberOfPeopleThroughQueue[i] += 1;
-                        }
-                        if (!queues[i].isEmpty()) {
-                            totalMinutesWaited[i] += minutes - queues[i].poll();
-                            numberOfPeopleThroughQueue[i] += 1;
-                        }
-                    }
-
-                    minutes++;
+                final int queueCount = numberOfQueues;
+                final int iterationIndex = iteration;
+                iterations.add(executor.submit(() -> runIteration(queueCount, iterationIndex)));
+            }
+            pending.add(iterations);
+        }
+
+        SimulationResult[] results = new SimulationResult[maxNumQueues];
+        try {
+            for(int numberOfQueues = 1; numberOfQueues <= maxNumQueues; numberOfQueues++) {
+                Tally tally = new Tally(numberOfQueues);
+                for(Future<Tally> iteration : pending.get(numberOfQueues - 1)) {
+                    tally.merge(iteration.get());
                 }
+                results[numberOfQueues - 1] = tally.toResult(numIterations, minutesPerDay);
             }
+        } catch(ExecutionException e) {
+            cancel(pending);
+            throw new IllegalStateException("Simulation iteration failed", e.getCause());
+        } catch(InterruptedException e) {
+            cancel(pending);
+            throw e;
+        }
+        return results;
+    }
 
-            double averageTimeWaited = 0;
-            for(int i = 0; i < numberOfQueues; i++) {
-                averageTimeWaited += totalMinutesWaited[i] != 0 ? (double) totalMinutesWaited[i] / numberOfPeopleThroughQueue[i] : 0;
+    // Stops the iterations nobody will read now, which may be on a shared pool
+    private static void cancel(List<List<Future<Tally>>> pending) {
+        for(List<Future<Tally>> iterations : pending) {
+            for(Future<Tally> iteration : iterations) {
+                iteration.cancel(true);
             }
-            averageTimeWaited /= numberOfQueues;
+        }
+    }
 
-            System.out.println("Average time waited using " + numberOfQueues + " queue(s): " + (int) Math.ceil(averageTimeWaited));
+    /**
+     * Simulates a single number of open queues, one iteration at a time on the calling thread.
+     *
+     * @param numberOfQueues the number of lines that are open
+     * @return the result of all iterations with that many queues
+     */
+    public SimulationResult simulate(int numberOfQueues) {
+        if(numberOfQueues < 1)
+            throw new IllegalArgumentException("At least one queue must be open: " + numberOfQueues);
+        Tally tally = new Tally(numberOfQueues);
+        for(int iteration = 0; iteration < numIterations; iteration++) {
+            tally.merge(runIteration(numberOfQueues, iteration));
+        }
+        return tally.toResult(numIterations, minutesPerDay);
+    }
+
+    /**
+     * Executes the Simulation adaptively, as {@link #simulate(StoppingRule)}, and prints the
+     * results.
+     *
+     * @param rule when to stop iterating a configuration
+     */
+    public void runSimulation(StoppingRule rule) {
+        SimulationResult.print(arrivalRate, simulate(rule));
+    }
+
+    /**
+     * Simulates every number of queues from 1 up to the maximum, stopping each one once the rule
+     * is satisfied rather than always running every iteration. Queue counts are simulated from
+     * the most to the fewest, so the configurations with the shortest waits are known early and,
+     * when the rule prunes, hopeless configurations such as a single counter at a high arrival
+     * rate stop after the rule's minimum number of iterations. Each result reports how many
+     * iterations it ran. Iterations use the same streams as {@link #simulate()}, so running every
+     * iteration gives the same results.
+     *
+     * @param rule when to stop iterating a configuration
+     * @return the result for each number of queues, where index 0 holds the result for 1 queue
+     */
+    public SimulationResult[] simulate(StoppingRule rule) {
+        SimulationResult[] results = new SimulationResult[maxNumQueues];
+        double bestUpperBound = Double.POSITIVE_INFINITY;
+        for(int numberOfQueues = maxNumQueues; numberOfQueues >= 1; numberOfQueues--) {
+            SimulationResult result = simulate(numberOfQueues, rule, bestUpperBound);
+            StreamingStatistics averages = result.getIterationStatistics();
+            bestUpperBound = Math.min(bestUpperBound, averages.getMean() + rule.halfWidth(averages));
+            results[numberOfQueues - 1] = result;
+        }
+        return results;
+    }
+
+    /**
+     * Simulates a single number of open queues until the confidence interval on its average wait
+     * is as narrow as the rule asks, or every iteration has run.
+     *
+     * @param numberOfQueues the number of lines that are open
+     * @param rule when to stop iterating
+     * @return the result of the iterations run, which says how many there were
+     */
+    public SimulationResult simulate(int numberOfQueues, StoppingRule rule) {
+        return simulate(numberOfQueues, rule, Double.POSITIVE_INFINITY);
+    }
+
+    private SimulationResult simulate(int numberOfQueues, StoppingRule rule, double bestUpperBound) {
+        if(numberOfQueues < 1)
+            throw new IllegalArgumentException("At least one queue must be open: " + numberOfQueues);
+        if(rule == null)
+            throw new IllegalArgumentException("A stopping rule is required");
+        Tally tally = new Tally(numberOfQueues);
+        int iteration = 0;
+        while(iteration < numIterations && !rule.isDone(tally.iterationAverages, bestUpperBound)) {
+            tally.merge(runIteration(numberOfQueues, iteration));
+            iteration++;
         }
+        return tally.toResult(iteration, minutesPerDay);
     }
 
-    private Queue getSmallestQueue(Queue[] queues) {
-        if(queues == null)
-            return null;
-        Queue smallestQueue = queues[0];
+    /**
+     * Runs a single simulated day with the given number of queues open. Only
+     * local state is touched, so iterations may run concurrently.
+     *
+     * The clock ticks once a minute. Everyone arriving in a minute joins a line
+     * at the start of it, then each server takes the next person in its line
+     * whenever it comes free before the minute is out. A server's only state
+     * is the time it next comes free, so nothing is allocated per person.
+     */
+    private Tally runIteration(int numberOfQueues, int iteration) {
+        Tally tally = new Tally(numberOfQueues);
+        RandomStream random = taskStream(numberOfQueues, iteration);
+        // a stream of its own, so the arrivals are the same whatever the service model draws
+        RandomStream serviceRandom = random.substream(0);
+
+        @SuppressWarnings("unchecked")
+        Queue<Integer>[] queues = new Queue[numberOfQueues];
+        double[][] freeAt = new double[numberOfQueues][];
+        for (int i = 0; i < numberOfQueues; i++) {
+            queues[i] = queueFactory.newQueue();
+            freeAt[i] = new double[serviceModel.getServers(i)];
+        }
+        // queue lengths, kept in step with every offer and poll so the shortest
+        // line is known without scanning them all for each arrival
+        IndexedMinHeap lengths = new IndexedMinHeap(numberOfQueues);
+
+        int minutes = 0;
+
+        while (minutes < minutesPerDay) {
+            int numPeopleThisMinute = getRandomNumPeople(random);
+
+            for (int i = 0; i < numPeopleThisMinute; i++) {
+                int shortest = lengths.minIndex();
+                offerMinute(queues[shortest], minutes);
+                lengths.increment(shortest);
+            }
+
+            for (int i = 0; i < numberOfQueues; i++) {
+                double[] servers = freeAt[i];
+                while (!queues[i].isEmpty()) {
+                    int server = firstFree(servers);
+                    if (servers[server] >= minutes + 1)
+                        break; // every server is busy until next minute
+                    tally.minutesWaited[i].add(minutes - pollMinute(queues[i]));
+                    lengths.decrement(i);
+                    servers[server] = Math.max(servers[server], minutes) + serviceModel.serviceMinutes(i, serviceRandom);
+                }
+            }
+
+            minutes++;
+        }
+
+        tally.endIteration();
+        return tally;
+    }
 
-        for(Queue queue : queues) {
-            if(queue.size() < smallestQueue.size())
-                smallestQueue = queue;
+    // Index of the server that comes free soonest
+    private static int firstFree(double[] freeAt) {
+        int first = 0;
+        for (int s = 1; s < freeAt.length; s++) {
+            if (freeAt[s] < freeAt[first])
+                first = s;
         }
+        return first;
+    }
+
+    // IntQueues take and give back the minute unboxed, anything else boxes it
+    private static void offerMinute(Queue<Integer> queue, int minute) {
+        if(queue instanceof IntQueue)
+            ((IntQueue) queue).offerInt(minute);
+        else
+            queue.offer(minute);
+    }
 
-        return smallestQueue;
+    // Only called on a queue that isn't empty
+    private static int pollMinute(Queue<Integer> queue) {
+        if(queue instanceof IntQueue)
+            return ((IntQueue) queue).pollInt();
+        return queue.poll();
+    }
+
+    // Every iteration gets its own substream, picked only by its position in
+    // the sweep, so it doesn't matter which thread runs it or when
+    private RandomStream taskStream(int numberOfQueues, int iteration) {
+        return random.substream(((long) numberOfQueues << 32) | iteration);
     }
 
     /**
-     * returns a number of people based on the provided average
+     * returns a number of people drawn from a Poisson distribution whose mean is the arrival rate
      *
-     * @param avg The average number of people to generate
+     * @param r The random number generator owned by the calling iteration
      * @return An integer representing the number of people generated this minute
      */
-    //Don't change this method.
-    private static int getRandomNumPeople(double avg) {
-        Random r = new Random();
-        double L = Math.exp(-avg);
-        int k = 0;
-        double p = 1.0;
-        do {
-            p = p * r.nextDouble();
-            k++;
-        } while (p > L);
-        return k - 1;
+    private int getRandomNumPeople(RandomStream r) {
+        return arrivals.sample(r);
+    }
+
+    /**
+     * Per-iteration accumulators, one set of wait time statistics per queue.
+     * Tallies from independent iterations are merged in iteration order, so
+     * the result doesn't depend on which thread ran what.
+     */
+    private static class Tally {
+        private final StreamingStatistics[] minutesWaited;
+        // one value per iteration merged in, that iteration's average wait
+        private final StreamingStatistics iterationAverages = new StreamingStatistics(ITERATION_RESOLUTION);
+
+        Tally(int numberOfQueues) {
+            minutesWaited = new StreamingStatistics[numberOfQueues];
+            for(int i = 0; i < numberOfQueues; i++) {
+                // waits are whole minutes, so the quantiles are exact up to 128 minutes
+                minutesWaited[i] = new StreamingStatistics(1.0);
+            }
+        }
+
+        void merge(Tally other) {
+            for(int i = 0; i < minutesWaited.length; i++) {
+                minutesWaited[i].merge(other.minutesWaited[i]);
+            }
+            iterationAverages.merge(other.iterationAverages);
+        }
+
+        // Called once on the tally of a single iteration when the day is over
+        void endIteration() {
+            iterationAverages.add(SimulationResult.averageOfMeans(minutesWaited));
+        }
+
+        SimulationResult toResult(int iterations, int minutesPerDay) {
+            return new SimulationResult(iterations, (long) iterations * minutesPerDay, minutesWaited, iterationAverages);
+        }
     }
 }
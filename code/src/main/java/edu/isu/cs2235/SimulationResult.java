@@ -0,0 +1,114 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.stats.StreamingStatistics;
+
+/**
+ * The outcome of simulating a single number of open queues over all iterations.
+ *
+ * @author Brigham Campbell
+ */
+public class SimulationResult {
+
+    private final int numberOfIterations;
+    private final long minutesSimulated;
+    private final StreamingStatistics[] queueMinutesWaited;
+    private final StreamingStatistics minutesWaited;
+    private final StreamingStatistics iterationAverages;
+    private final double averageTimeWaited;
+
+    SimulationResult(int numberOfIterations, long minutesSimulated, StreamingStatistics[] queueMinutesWaited,
+                     StreamingStatistics iterationAverages) {
+        this.numberOfIterations = numberOfIterations;
+        this.minutesSimulated = minutesSimulated;
+        this.queueMinutesWaited = queueMinutesWaited;
+        this.iterationAverages = iterationAverages;
+
+        minutesWaited = new StreamingStatistics(queueMinutesWaited[0]);
+        for(int i = 1; i < queueMinutesWaited.length; i++) {
+            minutesWaited.merge(queueMinutesWaited[i]);
+        }
+        averageTimeWaited = averageOfMeans(queueMinutesWaited);
+    }
+
+    // The figure reported as the average wait, for a whole run or a single iteration
+    static double averageOfMeans(StreamingStatistics[] queueMinutesWaited) {
+        double average = 0;
+        for(StreamingStatistics queue : queueMinutesWaited) {
+            average += queue.getMean();
+        }
+        return average / queueMinutesWaited.length;
+    }
+
+    /**
+     * @return the number of lines that were open
+     */
+    public int getNumberOfQueues() {
+        return queueMinutesWaited.length;
+    }
+
+    /**
+     * @return the number of iterations the result was averaged over
+     */
+    public int getNumberOfIterations() {
+        return numberOfIterations;
+    }
+
+    /**
+     * @return the total number of minutes simulated across all iterations
+     */
+    public long getMinutesSimulated() {
+        return minutesSimulated;
+    }
+
+    /**
+     * @return the total number of people who made it through a queue across all iterations
+     */
+    public long getNumberOfPeopleServed() {
+        return minutesWaited.getCount();
+    }
+
+    /**
+     * @return the average over all queues of the mean number of minutes a person waited in that
+     * queue
+     */
+    public double getAverageTimeWaited() {
+        return averageTimeWaited;
+    }
+
+    /**
+     * @return statistics of the minutes waited by everyone served, whichever queue they were in
+     */
+    public StreamingStatistics getWaitStatistics() {
+        return minutesWaited;
+    }
+
+    /**
+     * @param queue index of the queue, from 0 to one less than the number of queues
+     * @return statistics of the minutes waited by the people served from that queue
+     */
+    public StreamingStatistics getQueueWaitStatistics(int queue) {
+        return queueMinutesWaited[queue];
+    }
+
+    /**
+     * @return statistics of the average wait of each iteration on its own, whose spread shows
+     * how far the overall average can be trusted
+     */
+    public StreamingStatistics getIterationStatistics() {
+        return iterationAverages;
+    }
+
+    /**
+     * Prints the report both simulation engines give: the arrival rate, then the average wait,
+     * rounded up to a whole minute, for each number of queues.
+     *
+     * @param arrivalRate the arrival rate the results were simulated at
+     * @param results the result for each number of queues
+     */
+    static void print(Number arrivalRate, SimulationResult[] results) {
+        System.out.println("Arrival rate: " + arrivalRate);
+        for(SimulationResult result : results) {
+            System.out.println("Average time waited using " + result.getNumberOfQueues() + " queue(s): " + (int) Math.ceil(result.getAverageTimeWaited()));
+        }
+    }
+}
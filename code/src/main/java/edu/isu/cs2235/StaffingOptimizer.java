@@ -0,0 +1,130 @@
+package edu.isu.cs2235;
+
+/**
+ * Finds the fewest open counters whose waits meet a ServiceLevel, without
+ * simulating every count from 1 to the maximum. More counters never make the
+ * waits longer, so whether a count meets the target flips from no to yes just
+ * once. The search gallops away from a starting count, doubling its step,
+ * until it has one count that misses and one that meets the target, then
+ * binary searches between them. That is O(log n) configurations simulated
+ * instead of n.
+ *
+ * Every result simulated is kept and reused by later searches, for example
+ * for a stricter target, and each search starts from the answer to the
+ * previous one, so a run of searches for similar targets simulates only a
+ * few new configurations each. Configurations are simulated with their own
+ * random streams, so a count right at the boundary may be noisy and the
+ * answer can differ by one from a full sweep; running more iterations, or an
+ * adaptive StoppingRule with a narrow half width, makes that less likely.
+ *
+ * An optimizer is not thread-safe.
+ *
+ * @author Brigham Campbell
+ */
+public class StaffingOptimizer {
+
+    private final Simulation simulation;
+    private final StoppingRule rule;
+    private final SimulationResult[] results;
+    private int configurationsSimulated;
+    private int hint = 1;
+
+    /**
+     * Constructs an optimizer that runs every iteration of each configuration it looks at.
+     *
+     * @param simulation the simulation to search, up to its maximum number of queues
+     */
+    public StaffingOptimizer(Simulation simulation) {
+        this(simulation, null);
+    }
+
+    /**
+     * Constructs an optimizer that stops iterating each configuration it looks at once the
+     * provided rule is satisfied. Pruning has no effect, since configurations are looked at one
+     * at a time.
+     *
+     * @param simulation the simulation to search, up to its maximum number of queues
+     * @param rule when to stop iterating a configuration, or null to run every iteration
+     */
+    public StaffingOptimizer(Simulation simulation, StoppingRule rule) {
+        if(simulation == null)
+            throw new IllegalArgumentException("A simulation is required");
+        this.simulation = simulation;
+        this.rule = rule;
+        results = new SimulationResult[simulation.getMaxNumQueues()];
+    }
+
+    /**
+     * Finds the fewest counters, up to the simulation's maximum, meeting the target.
+     *
+     * @param target the service level to meet
+     * @return the result for the fewest counters meeting the target, or null if even the
+     * maximum number misses it
+     */
+    public SimulationResult minimumQueues(ServiceLevel target) {
+        if(target == null)
+            throw new IllegalArgumentException("A service level is required");
+        int max = results.length;
+
+        // find a count that misses (lo, 0 if none) and a larger one that meets (hi)
+        int lo;
+        int hi;
+        int start = Math.min(hint, max);
+        if(isMet(start, target)) {
+            hi = start;
+            lo = start - 1;
+            for(int step = 1; lo >= 1 && isMet(lo, target); step <<= 1) {
+                hi = lo;
+                lo = Math.max(hi - (step << 1), 0);
+            }
+        } else {
+            lo = start;
+            hi = start + 1;
+            for(int step = 1; ; step <<= 1) {
+                if(hi >= max) {
+                    hi = max;
+                    if(!isMet(max, target))
+                        return null;
+                    break;
+                }
+                if(isMet(hi, target))
+                    break;
+                lo = hi;
+                hi = lo + (step << 1);
+            }
+        }
+
+        // hi meets the target and lo doesn't, so the answer is in (lo, hi]
+        while(hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if(isMet(mid, target))
+                hi = mid;
+            else
+                lo = mid;
+        }
+        hint = hi;
+        return results[hi - 1];
+    }
+
+    /**
+     * @return the number of distinct configurations simulated so far, across all searches.
+     */
+    public int getConfigurationsSimulated() {
+        return configurationsSimulated;
+    }
+
+    private boolean isMet(int numberOfQueues, ServiceLevel target) {
+        return target.isMetBy(result(numberOfQueues));
+    }
+
+    // Simulates each count at most once
+    private SimulationResult result(int numberOfQueues) {
+        SimulationResult result = results[numberOfQueues - 1];
+        if(result == null) {
+            result = rule == null ? simulation.simulate(numberOfQueues) : simulation.simulate(numberOfQueues, rule);
+            results[numberOfQueues - 1] = result;
+            configurationsSimulated++;
+        }
+        return result;
+    }
+}
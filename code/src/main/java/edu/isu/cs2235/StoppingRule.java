@@ -0,0 +1,147 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.stats.StreamingStatistics;
+
+/**
+ * When an adaptive Simulation may stop iterating a configuration before it
+ * has run every iteration. Iterations are independent simulated days, so the
+ * average waits of the days run so far give a confidence interval on the
+ * configuration's average wait, using the normal approximation. A
+ * configuration is done once that interval is narrower than the target, or,
+ * when pruning, once even its lower end is worse than the upper end of a
+ * configuration already simulated, since then all that matters is that it
+ * loses.
+ *
+ * Rules are immutable and can be shared between threads.
+ *
+ * @author Brigham Campbell
+ */
+public final class StoppingRule {
+
+    private static final int DEFAULT_MIN_ITERATIONS = 10;
+    private static final double DEFAULT_CONFIDENCE = 0.95;
+
+    private final double halfWidth;
+    private final double confidence;
+    private final double z;
+    private final int minIterations;
+    private final boolean pruning;
+
+    /**
+     * Constructs a rule that stops once the 95% confidence interval on the average wait is within
+     * the given number of minutes either side of the estimate, after at least 10 iterations, and
+     * prunes configurations that are clearly worse than one already simulated.
+     *
+     * @param halfWidth the widest the interval may be either side of the estimate, in minutes
+     */
+    public StoppingRule(double halfWidth) {
+        this(halfWidth, DEFAULT_CONFIDENCE, DEFAULT_MIN_ITERATIONS, true);
+    }
+
+    /**
+     * Constructs a stopping rule.
+     *
+     * @param halfWidth the widest the interval may be either side of the estimate, in minutes; 0
+     *                  never stops a configuration for being precise enough
+     * @param confidence the confidence level of the interval, between 0 and 1 exclusive
+     * @param minIterations the fewest iterations run before stopping, at least 2 so the spread
+     *                      can be estimated
+     * @param pruning whether to stop configurations that are clearly worse than one already
+     *                simulated
+     */
+    public StoppingRule(double halfWidth, double confidence, int minIterations, boolean pruning) {
+        if(!(halfWidth >= 0) || Double.isInfinite(halfWidth))
+            throw new IllegalArgumentException("Half width must be non-negative and finite: " + halfWidth);
+        if(!(confidence > 0 && confidence < 1))
+            throw new IllegalArgumentException("Confidence must be between 0 and 1: " + confidence);
+        if(minIterations < 2)
+            throw new IllegalArgumentException("At least two iterations are needed to estimate the spread: " + minIterations);
+        this.halfWidth = halfWidth;
+        this.confidence = confidence;
+        this.z = normalQuantile(0.5 + confidence / 2);
+        this.minIterations = minIterations;
+        this.pruning = pruning;
+    }
+
+    /**
+     * @return the widest the interval may be either side of the estimate, in minutes.
+     */
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    /**
+     * @return the confidence level of the interval.
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+
+    /**
+     * @return the fewest iterations run before stopping.
+     */
+    public int getMinIterations() {
+        return minIterations;
+    }
+
+    /**
+     * @return whether configurations clearly worse than one already simulated are stopped early.
+     */
+    public boolean isPruning() {
+        return pruning;
+    }
+
+    /**
+     * @param iterationAverages the average wait of each iteration run so far, as kept by
+     *                          {@link SimulationResult#getIterationStatistics()}
+     * @return how far either side of their mean the confidence interval on the average wait
+     * reaches, or infinity with fewer than two iterations
+     */
+    public double halfWidth(StreamingStatistics iterationAverages) {
+        long n = iterationAverages.getCount();
+        if(n < 2)
+            return Double.POSITIVE_INFINITY;
+        return z * iterationAverages.getStandardDeviation() / Math.sqrt(n);
+    }
+
+    /**
+     * @param iterationAverages the average wait of each iteration run so far
+     * @param bestUpperBound the smallest upper end of the interval of any configuration already
+     *                       simulated, or infinity if there is none
+     * @return whether the configuration has run enough iterations
+     */
+    boolean isDone(StreamingStatistics iterationAverages, double bestUpperBound) {
+        if(iterationAverages.getCount() < minIterations)
+            return false;
+        double h = halfWidth(iterationAverages);
+        if(h <= halfWidth)
+            return true;
+        return pruning && iterationAverages.getMean() - h > bestUpperBound;
+    }
+
+    // Inverse of the standard normal distribution function, by Acklam's
+    // rational approximation, good to about 1e-9 relative error
+    private static double normalQuantile(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        final double low = 0.02425;
+
+        if(p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if(p > 1 - low)
+            return -normalQuantile(1 - p);
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
@@ -0,0 +1,182 @@
+package edu.isu.cs2235.random;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Draws Poisson distributed integers in O(1) expected time for any mean.
+ *
+ * For small means the cumulative distribution is tabulated once and sampled
+ * by inversion, using a guide table so the search starts right next to the
+ * answer. The tail beyond the table carries less than 1e-17 of the mass and is
+ * folded into the last entry. For larger means the table would be long and
+ * mostly wasted, so the transformed rejection method with squeeze (PTRS) from
+ * Hormann, "The transformed rejection method for generating Poisson random
+ * variables" (1993) is used instead; it accepts roughly 9 in 10 candidates
+ * without evaluating any logarithms.
+ *
+ * Samplers are immutable and can be shared between threads. Use
+ * {@link #forMean(double)} to get the cached sampler for a mean.
+ *
+ * @author Brigham Campbell
+ */
+public final class PoissonSampler {
+
+    // Above this mean the rejection method beats a table lookup
+    private static final double TABLE_THRESHOLD = 12.0;
+    private static final double NEGLIGIBLE_MASS = 1e-17;
+
+    private static final int LOG_FACTORIAL_TABLE_SIZE = 256;
+    private static final double[] LOG_FACTORIAL = new double[LOG_FACTORIAL_TABLE_SIZE];
+    private static final double HALF_LOG_TWO_PI = 0.5 * Math.log(2 * Math.PI);
+
+    private static final ConcurrentMap<Double, PoissonSampler> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        for(int k = 1; k < LOG_FACTORIAL_TABLE_SIZE; k++) {
+            LOG_FACTORIAL[k] = LOG_FACTORIAL[k - 1] + Math.log(k);
+        }
+    }
+
+    private final double mean;
+
+    // inversion state, only used below TABLE_THRESHOLD
+    private final double[] cdf;
+    private final int[] guide;
+
+    // PTRS constants, only used at or above TABLE_THRESHOLD
+    private final double logMean;
+    private final double a;
+    private final double b;
+    private final double logInvAlpha;
+    private final double vr;
+
+    private PoissonSampler(double mean) {
+        this.mean = mean;
+        if(mean < TABLE_THRESHOLD) {
+            cdf = buildCdf(mean);
+            guide = buildGuide(cdf);
+            logMean = a = b = logInvAlpha = vr = 0;
+        } else {
+            cdf = null;
+            guide = null;
+            double sqrtMean = Math.sqrt(mean);
+            logMean = Math.log(mean);
+            b = 0.931 + 2.53 * sqrtMean;
+            a = -0.059 + 0.02483 * b;
+            logInvAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+            vr = 0.9277 - 3.6224 / (b - 2);
+        }
+    }
+
+    /**
+     * Returns the sampler for the given mean, building and caching it the first
+     * time a mean is asked for.
+     *
+     * @param mean the mean (lambda) of the distribution, must be non-negative
+     * @return a sampler for the given mean
+     * @throws IllegalArgumentException if the mean is negative, infinite or NaN
+     */
+    public static PoissonSampler forMean(double mean) {
+        if(!(mean >= 0) || Double.isInfinite(mean))
+            throw new IllegalArgumentException("Poisson mean must be non-negative and finite: " + mean);
+        PoissonSampler sampler = CACHE.get(mean);
+        if(sampler == null) {
+            sampler = new PoissonSampler(mean);
+            PoissonSampler raced = CACHE.putIfAbsent(mean, sampler);
+            if(raced != null)
+                sampler = raced;
+        }
+        return sampler;
+    }
+
+    /**
+     * @return the mean (lambda) of the distribution sampled from
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Draws a single Poisson distributed value.
+     *
+     * @param random the stream to draw uniform variates from
+     * @return a non-negative integer with the sampler's distribution
+     */
+    public int sample(RandomStream random) {
+        return cdf != null ? sampleByInversion(random) : sampleByRejection(random);
+    }
+
+    private int sampleByInversion(RandomStream random) {
+        double u = random.nextDouble();
+        int k = guide[(int) (u * guide.length)];
+        while(u >= cdf[k])
+            k++;
+        return k;
+    }
+
+    private int sampleByRejection(RandomStream random) {
+        while(true) {
+            double u = random.nextDouble() - 0.5;
+            double v = random.nextDouble();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+
+            // squeeze: accepted without touching the density
+            if(us >= 0.07 && v <= vr)
+                return (int) k;
+            if(k < 0 || (us < 0.013 && v > us))
+                continue;
+            if(Math.log(v) + logInvAlpha - Math.log(a / (us * us) + b) <= -mean + k * logMean - logFactorial(k))
+                return (int) k;
+        }
+    }
+
+    private static double[] buildCdf(double mean) {
+        double[] cdf = new double[16];
+        double pmf = Math.exp(-mean);
+        double sum = pmf;
+        int k = 0;
+        cdf[0] = sum;
+        // walk past the mode until the remaining terms no longer matter
+        while(k < mean || pmf > NEGLIGIBLE_MASS) {
+            k++;
+            pmf *= mean / k;
+            sum += pmf;
+            if(k == cdf.length)
+                cdf = Arrays.copyOf(cdf, cdf.length * 2);
+            cdf[k] = sum;
+        }
+        cdf = Arrays.copyOf(cdf, k + 1);
+        // the tail we cut off is folded into the last entry so every u in
+        // [0, 1) lands somewhere in the table
+        cdf[k] = 1.0;
+        return cdf;
+    }
+
+    // guide[j] is the smallest k with cdf[k] > j / guide.length, so the search
+    // for u starts at or just before the answer
+    private static int[] buildGuide(double[] cdf) {
+        int[] guide = new int[cdf.length];
+        int k = 0;
+        for(int j = 0; j < guide.length; j++) {
+            double lower = (double) j / guide.length;
+            while(cdf[k] <= lower)
+                k++;
+            guide[j] = k;
+        }
+        return guide;
+    }
+
+    // log(k!) from a table for small k and Stirling's series above that
+    private static double logFactorial(long k) {
+        if(k < LOG_FACTORIAL_TABLE_SIZE)
+            return LOG_FACTORIAL[(int) k];
+        double x = k + 1.0;
+        double inv = 1.0 / x;
+        double inv2 = inv * inv;
+        return (x - 0.5) * Math.log(x) - x + HALF_LOG_TWO_PI
+                + inv * (1.0 / 12 - inv2 * (1.0 / 360 - inv2 * (1.0 / 1260)));
+    }
+}
@@ -0,0 +1,48 @@
+package edu.isu.cs2235.random;
+
+/**
+ * A source of pseudo-random numbers for the simulation. Implementations are
+ * not required to be thread-safe; instead each thread or task takes its own
+ * stream through {@link #split()} or {@link #substream(long)}.
+ *
+ * @author Brigham Campbell
+ */
+public interface RandomStream {
+
+    /**
+     * @return a uniformly distributed double in [0, 1).
+     */
+    double nextDouble();
+
+    /**
+     * @param bound the exclusive upper bound, must be positive
+     * @return a uniformly distributed int in [0, bound).
+     */
+    int nextInt(int bound);
+
+    /**
+     * @return a uniformly distributed long.
+     */
+    long nextLong();
+
+    /**
+     * Splits off a new stream that is statistically independent of this one.
+     * This advances this stream, so the result depends on how many values have
+     * already been drawn.
+     *
+     * @return a new independent stream
+     */
+    RandomStream split();
+
+    /**
+     * Derives an independent stream that is determined only by the seed this
+     * stream was created with and the given index. This does not advance this
+     * stream, so the same index always yields the same sequence no matter which
+     * thread asks for it or in what order.
+     *
+     * @param index identifies the substream, e.g. the position of a task in a
+     *              sweep
+     * @return a new independent stream
+     */
+    RandomStream substream(long index);
+}
@@ -0,0 +1,127 @@
+package edu.isu.cs2235.random;
+
+import java.util.Arrays;
+
+/**
+ * Draws the time a counter spends on one person. Every sampler returns a
+ * primitive double and holds no per-draw state, so sampling allocates
+ * nothing and samplers are immutable and can be shared between threads.
+ *
+ * Four shapes are available. A fixed time draws no random numbers at all. An
+ * exponential time is memoryless, which is the classic M/M/c assumption. An
+ * Erlang time is the sum of several exponential phases, so it is less
+ * variable than an exponential time with the same mean. An empirical time
+ * resamples measured times. Samples are in minutes.
+ *
+ * @author Brigham Campbell
+ */
+public abstract class ServiceTimeSampler {
+
+    // the Erlang product of uniforms is folded into its logarithm below this
+    private static final double UNDERFLOW_GUARD = 1e-280;
+
+    private final double mean;
+
+    private ServiceTimeSampler(double mean) {
+        this.mean = mean;
+    }
+
+    /**
+     * @return the average time drawn, in minutes.
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @param random the stream owned by the calling iteration
+     * @return a service time in minutes, never negative
+     */
+    public abstract double sample(RandomStream random);
+
+    private static void checkMean(double mean) {
+        if(!(mean > 0) || Double.isInfinite(mean))
+            throw new IllegalArgumentException("Mean service time must be positive and finite: " + mean);
+    }
+
+    /**
+     * @param minutes the time every person takes
+     * @return a sampler that always returns the given time without drawing
+     * any random numbers
+     */
+    public static ServiceTimeSampler fixed(final double minutes) {
+        checkMean(minutes);
+        return new ServiceTimeSampler(minutes) {
+            @Override
+            public double sample(RandomStream random) {
+                return minutes;
+            }
+        };
+    }
+
+    /**
+     * @param mean the average service time in minutes
+     * @return a sampler of exponentially distributed times
+     */
+    public static ServiceTimeSampler exponential(double mean) {
+        return erlang(1, mean);
+    }
+
+    /**
+     * @param phases the number of exponential phases summed, at least 1
+     * @param mean   the average service time in minutes
+     * @return a sampler of Erlang distributed times with the given number of
+     * phases, each phase having mean mean / phases
+     */
+    public static ServiceTimeSampler erlang(final int phases, double mean) {
+        checkMean(mean);
+        if(phases < 1)
+            throw new IllegalArgumentException("An Erlang distribution needs at least one phase: " + phases);
+        final double phaseMean = mean / phases;
+        return new ServiceTimeSampler(mean) {
+            @Override
+            public double sample(RandomStream random) {
+                // the sum of the phases' -log(u) terms is -log of the product
+                // of the uniforms, so a logarithm is only taken when the
+                // product gets small. No factor is below 2^-53, so folding it
+                // in below 1e-280 keeps the product from ever reaching 0
+                double product = 1.0;
+                double logSum = 0;
+                for(int i = 0; i < phases; i++) {
+                    product *= 1.0 - random.nextDouble();
+                    if(product < UNDERFLOW_GUARD) {
+                        logSum += Math.log(product);
+                        product = 1.0;
+                    }
+                }
+                return -phaseMean * (logSum + Math.log(product));
+            }
+        };
+    }
+
+    /**
+     * @param observations measured service times in minutes, copied, at least
+     *                     one and none negative
+     * @return a sampler that picks one of the observations uniformly at random
+     * each time
+     */
+    public static ServiceTimeSampler empirical(double... observations) {
+        if(observations.length == 0)
+            throw new IllegalArgumentException("At least one observed service time is needed");
+        final double[] times = Arrays.copyOf(observations, observations.length);
+        double sum = 0;
+        for(double time : times) {
+            if(!(time >= 0) || Double.isInfinite(time))
+                throw new IllegalArgumentException("Observed service times must be non-negative and finite: " + time);
+            sum += time;
+        }
+        double mean = sum / times.length;
+        checkMean(mean);
+        return new ServiceTimeSampler(mean) {
+            @Override
+            public double sample(RandomStream random) {
+                return times[random.nextInt(times.length)];
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package edu.isu.cs2235.stats;
+
+import java.util.Arrays;
+
+/**
+ * A mergeable quantile sketch for non-negative values, laid out the same way
+ * as HdrHistogram. Values are first scaled to whole multiples of a
+ * resolution. The first 128 multiples each get their own bucket; above that
+ * every power of two range is split into 64 equal buckets, so any recorded
+ * value is known to within 1/64 (about 1.6%) of itself. Memory grows with the
+ * logarithm of the largest value, not with the number of values, and two
+ * histograms with the same resolution merge exactly by adding their counts.
+ *
+ * @author Brigham Campbell
+ */
+public class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;  // buckets per power of two
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS << 1;   // values with their own bucket
+
+    private final double resolution;
+    private long[] counts = new long[LINEAR_BUCKETS];
+    private long totalCount;
+
+    /**
+     * Constructs an empty histogram.
+     *
+     * @param resolution the smallest difference between values the histogram
+     *                   needs to tell apart, must be positive
+     */
+    public LogLinearHistogram(double resolution) {
+        if(!(resolution > 0) || Double.isInfinite(resolution))
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        this.resolution = resolution;
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param other histogram to copy
+     */
+    public LogLinearHistogram(LogLinearHistogram other) {
+        resolution = other.resolution;
+        counts = other.counts.clone();
+        totalCount = other.totalCount;
+    }
+
+    private static int bucketOf(long scaled) {
+        if(scaled < LINEAR_BUCKETS)
+            return (int) scaled;
+        int exponent = 63 - Long.numberOfLeadingZeros(scaled) - SUB_BUCKET_BITS;
+        int subBucket = (int) (scaled >>> exponent) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (exponent - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // smallest scaled value that lands in the bucket
+    private static long lowerBoundOf(int bucket) {
+        if(bucket < LINEAR_BUCKETS)
+            return bucket;
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = SUB_BUCKETS + (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        return subBucket << exponent;
+    }
+
+    // one past the largest scaled value that lands in the bucket
+    private static long upperBoundOf(int bucket) {
+        if(bucket < LINEAR_BUCKETS)
+            return bucket + 1L;
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        return lowerBoundOf(bucket) + (1L << exponent);
+    }
+
+    /**
+     * Records a single value.
+     *
+     * @param value the value to record, must be non-negative
+     */
+    public void record(double value) {
+        record(value, 1);
+    }
+
+    /**
+     * Records the same value a number of times.
+     *
+     * @param value the value to record, must be non-negative
+     * @param count how many times to record it
+     */
+    public void record(double value, long count) {
+        if(!(value >= 0) || Double.isInfinite(value))
+            throw new IllegalArgumentException("Only finite non-negative values can be recorded: " + value);
+        int bucket = bucketOf((long) (value / resolution));
+        if(bucket >= counts.length)
+            counts = Arrays.copyOf(counts, Math.max(bucket + 1, counts.length + SUB_BUCKETS));
+        counts[bucket] += count;
+        totalCount += count;
+    }
+
+    /**
+     * Adds every value recorded by the other histogram to this one.
+     *
+     * @param other histogram to merge in, which must have the same resolution
+     */
+    public void merge(LogLinearHistogram other) {
+        if(other.resolution != resolution)
+            throw new IllegalArgumentException("Cannot merge histograms of different resolutions");
+        if(other.counts.length > counts.length)
+            counts = Arrays.copyOf(counts, other.counts.length);
+        for(int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return the resolution values are scaled by
+     */
+    public double getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Estimates the value at the given quantile, e.g. 0.95 for the 95th
+     * percentile. Below 128 times the resolution the value is exact to the
+     * resolution; above that the estimate is the midpoint of the bucket
+     * holding that rank, so it is within one bucket width of the true value.
+     *
+     * @param quantile a number from 0 to 1
+     * @return the estimated value, or NaN if nothing has been recorded
+     */
+    public double getValueAtQuantile(double quantile) {
+        if(!(quantile >= 0 && quantile <= 1))
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        if(totalCount == 0)
+            return Double.NaN;
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+        long seen = 0;
+        for(int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                if(i < LINEAR_BUCKETS)
+                    return i * resolution;
+                return (lowerBoundOf(i) + upperBoundOf(i) - 1) / 2.0 * resolution;
+            }
+        }
+        throw new IllegalStateException("Histogram counts do not add up to its total count");
+    }
+}
@@ -0,0 +1,146 @@
+package edu.isu.cs2235.stats;
+
+/**
+ * Summary statistics over a stream of non-negative values, such as wait
+ * times, without keeping the values themselves. Count, mean and variance are
+ * kept with Welford's update, so they neither overflow nor lose precision the
+ * way running integer sums do, along with the minimum and maximum. Quantiles
+ * come from a LogLinearHistogram. Statistics gathered separately, for example
+ * by parallel workers, can be merged into one.
+ *
+ * @author Brigham Campbell
+ */
+public class StreamingStatistics {
+
+    private long count;
+    private double mean;
+    private double sumOfSquaredDeviations;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final LogLinearHistogram histogram;
+
+    /**
+     * Constructs empty statistics whose quantiles can tell apart values that
+     * differ by at least the given resolution.
+     *
+     * @param resolution the resolution of the quantile sketch
+     */
+    public StreamingStatistics(double resolution) {
+        histogram = new LogLinearHistogram(resolution);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param other statistics to copy
+     */
+    public StreamingStatistics(StreamingStatistics other) {
+        count = other.count;
+        mean = other.mean;
+        sumOfSquaredDeviations = other.sumOfSquaredDeviations;
+        min = other.min;
+        max = other.max;
+        histogram = new LogLinearHistogram(other.histogram);
+    }
+
+    /**
+     * Adds a single value.
+     *
+     * @param value the value to add, must be non-negative
+     */
+    public void add(double value) {
+        histogram.record(value);
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquaredDeviations += delta * (value - mean);
+        if(value < min)
+            min = value;
+        if(value > max)
+            max = value;
+    }
+
+    /**
+     * Combines the other statistics into these, as if every value added to
+     * the other had been added here. Uses the pairwise update of Chan et al.
+     *
+     * @param other statistics to merge in
+     */
+    public void merge(StreamingStatistics other) {
+        if(other.count == 0)
+            return;
+        histogram.merge(other.histogram);
+        if(count == 0) {
+            count = other.count;
+            mean = other.mean;
+            sumOfSquaredDeviations = other.sumOfSquaredDeviations;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+
+        long combined = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / combined;
+        sumOfSquaredDeviations += other.sumOfSquaredDeviations + delta * delta * ((double) count * other.count / combined);
+        count = combined;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @return the number of values added
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean of the values, or 0 if there are none
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return the sample variance of the values, or 0 if there are fewer than two
+     */
+    public double getVariance() {
+        return count > 1 ? sumOfSquaredDeviations / (count - 1) : 0;
+    }
+
+    /**
+     * @return the sample standard deviation of the values
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * @return the smallest value, or NaN if there are none
+     */
+    public double getMin() {
+        return count > 0 ? min : Double.NaN;
+    }
+
+    /**
+     * @return the largest value, or NaN if there are none
+     */
+    public double getMax() {
+        return count > 0 ? max : Double.NaN;
+    }
+
+    /**
+     * Estimates the value at the given quantile, e.g. 0.95 for the 95th
+     * percentile, clamped to the smallest and largest values seen.
+     *
+     * @param quantile a number from 0 to 1
+     * @return the estimated value, or NaN if there are none
+     */
+    public double getQuantile(double quantile) {
+        double estimate = histogram.getValueAtQuantile(quantile);
+        if(count == 0)
+            return estimate;
+        return Math.max(min, Math.min(max, estimate));
+    }
+}
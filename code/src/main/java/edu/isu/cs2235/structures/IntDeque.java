@@ -0,0 +1,30 @@
+package edu.isu.cs2235.structures;
+
+/**
+ * A Deque of primitive ints. The int-specific methods never box, so they
+ * should be preferred over the inherited Integer methods on hot paths.
+ *
+ * @author Brigham Campbell
+ */
+public interface IntDeque extends Deque<Integer>, IntQueue {
+
+    /**
+     * @return The value of the last element of the deque (without removing
+     * it).
+     * @throws java.util.NoSuchElementException if the deque is empty.
+     */
+    int peekLastInt();
+
+    /**
+     * Inserts the given value into the front of the deque.
+     *
+     * @param value Value to be inserted to the front of the deque.
+     */
+    void offerFirstInt(int value);
+
+    /**
+     * @return The value of the last element of the deque (and removes it).
+     * @throws java.util.NoSuchElementException if the deque is empty.
+     */
+    int pollLastInt();
+}
@@ -0,0 +1,30 @@
+package edu.isu.cs2235.structures;
+
+/**
+ * A Queue of primitive ints. The int-specific methods never box, so they
+ * should be preferred over the inherited Integer methods on hot paths.
+ *
+ * @author Brigham Campbell
+ */
+public interface IntQueue extends Queue<Integer> {
+
+    /**
+     * Inserts a value at the end of the queue.
+     *
+     * @param value Value to be inserted.
+     */
+    void offerInt(int value);
+
+    /**
+     * @return The value of the first element of the queue (without removing
+     * it).
+     * @throws java.util.NoSuchElementException if the queue is empty.
+     */
+    int peekInt();
+
+    /**
+     * @return The value of the first element of the queue (and removes it).
+     * @throws java.util.NoSuchElementException if the queue is empty.
+     */
+    int pollInt();
+}
@@ -0,0 +1,29 @@
+package edu.isu.cs2235.structures;
+
+/**
+ * A Stack of primitive ints. The int-specific methods never box, so they
+ * should be preferred over the inherited Integer methods on hot paths.
+ *
+ * @author Brigham Campbell
+ */
+public interface IntStack extends Stack<Integer> {
+
+    /**
+     * Adds the provided value to the top of the stack.
+     *
+     * @param value Value added to the top of the stack.
+     */
+    void pushInt(int value);
+
+    /**
+     * @return The value of the top item in the stack (without removing it).
+     * @throws java.util.NoSuchElementException if the stack is empty.
+     */
+    int peekInt();
+
+    /**
+     * @return The value of the top item in the stack (and removes it).
+     * @throws java.util.NoSuchElementException if the stack is empty.
+     */
+    int popInt();
+}
@@ -1,11 +1,15 @@
 package edu.isu.cs2235.structures;
 
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  *
  * @author Isaac Griffith
  * @param <E> Element Type
  */
-public interface List<E> {
+public interface List<E> extends Iterable<E> {
 
     /**
      * @return first element in the list or null if the list is empty.
@@ -96,4 +100,26 @@ public interface List<E> {
      * by a space to the default System.out
      */
     void printList();
+
+    /**
+     * @return An iterator over the elements of the list from first to last.
+     */
+    @Override
+    Iterator<E> iterator();
+
+    /**
+     * @return A sequential stream over the elements of the list from first to
+     * last.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return A possibly parallel stream over the elements of the list from
+     * first to last.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -1,12 +1,18 @@
 package edu.isu.cs2235.structures;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * An interface for a Queue ADT
  *
  * @author Isaac Griffith
  * @param <E> Element type to be stored in this Queue
  */
-public interface Queue<E> {
+public interface Queue<E> extends Iterable<E> {
 
     /**
      * @return The number of elements in the queue
@@ -71,4 +77,79 @@ public interface Queue<E> {
      * this queue.
      */
     void merge(Queue<E> from);
+
+    /**
+     * Inserts all of the given elements at the end of the queue, in order.
+     * Null elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    default void offerAll(E[] elements) {
+        for(E element : elements)
+            offer(element);
+    }
+
+    /**
+     * Inserts all of the given elements at the end of the queue, in order.
+     * Null elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    default void offerAll(Iterable<? extends E> elements) {
+        for(E element : elements)
+            offer(element);
+    }
+
+    /**
+     * Removes up to n elements from the front of the queue and hands each one,
+     * in order, to the consumer. The consumer must not change this queue.
+     *
+     * @param n        Most elements to remove.
+     * @param consumer Receives each removed element.
+     * @return The number of elements removed, 0 if the queue was empty.
+     */
+    default int pollN(int n, Consumer<? super E> consumer) {
+        int polled = 0;
+        E element;
+        while(polled < n && (element = poll()) != null) {
+            consumer.accept(element);
+            polled++;
+        }
+        return polled;
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and adds them, in
+     * order, to the given collection.
+     *
+     * @param into Collection to add the removed elements to.
+     * @param max  Most elements to remove.
+     * @return The number of elements removed, 0 if the queue was empty.
+     */
+    default int drainTo(Collection<? super E> into, int max) {
+        return pollN(max, into::add);
+    }
+
+    /**
+     * @return An iterator over the elements of the queue in the order they
+     * would be polled, without removing them.
+     */
+    @Override
+    Iterator<E> iterator();
+
+    /**
+     * @return A sequential stream over the elements of the queue in the order
+     * they would be polled, without removing them.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return A possibly parallel stream over the elements of the queue in the
+     * order they would be polled, without removing them.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
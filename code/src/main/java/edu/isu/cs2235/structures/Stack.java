@@ -1,5 +1,11 @@
 package edu.isu.cs2235.structures;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Stack ADT Interface
  *
@@ -10,7 +16,7 @@ package edu.isu.cs2235.structures;
  * @author Isaac Griffith
  * @param <E> Element type held in this Stack
  */
-public interface Stack<E> {
+public interface Stack<E> extends Iterable<E> {
 
     /**
      * Adds the provided item to the top of the stack. Note that if the item is
@@ -85,4 +91,79 @@ public interface Stack<E> {
      * this method should not empty the contents of the stack.
      */
     void printStack();
+
+    /**
+     * Pushes each of the given elements in order, so the last of them ends up
+     * on top. Null elements are skipped.
+     *
+     * @param elements Elements to be pushed.
+     */
+    default void pushAll(E[] elements) {
+        for(E element : elements)
+            push(element);
+    }
+
+    /**
+     * Pushes each of the given elements in order, so the last of them ends up
+     * on top. Null elements are skipped.
+     *
+     * @param elements Elements to be pushed.
+     */
+    default void pushAll(Iterable<? extends E> elements) {
+        for(E element : elements)
+            push(element);
+    }
+
+    /**
+     * Pops up to n elements off the stack and hands each one, top first, to
+     * the consumer. The consumer must not change this stack.
+     *
+     * @param n        Most elements to pop.
+     * @param consumer Receives each popped element.
+     * @return The number of elements popped, 0 if the stack was empty.
+     */
+    default int popN(int n, Consumer<? super E> consumer) {
+        int popped = 0;
+        E element;
+        while(popped < n && (element = pop()) != null) {
+            consumer.accept(element);
+            popped++;
+        }
+        return popped;
+    }
+
+    /**
+     * Pops up to max elements off the stack and adds them, top first, to the
+     * given collection.
+     *
+     * @param into Collection to add the popped elements to.
+     * @param max  Most elements to pop.
+     * @return The number of elements popped, 0 if the stack was empty.
+     */
+    default int drainTo(Collection<? super E> into, int max) {
+        return popN(max, into::add);
+    }
+
+    /**
+     * @return An iterator over the elements of the stack from the top down,
+     * without removing them.
+     */
+    @Override
+    Iterator<E> iterator();
+
+    /**
+     * @return A sequential stream over the elements of the stack from the top
+     * down, without removing them.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return A possibly parallel stream over the elements of the stack from
+     * the top down, without removing them.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
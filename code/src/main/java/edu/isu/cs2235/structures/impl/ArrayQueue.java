@@ -0,0 +1,165 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Queue;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+public class ArrayQueue<E> implements Queue<E> {
+
+    private CircularArrayList<E> data;
+
+    public ArrayQueue(int initialCapacity) {
+        data = new CircularArrayList<E>(initialCapacity);
+    }
+
+    public ArrayQueue() {
+        data = new CircularArrayList<E>();
+    }
+
+    /**
+     * @return The number of elements in the queue
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * @return tests whether the queue is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * Inserts an element at the end of the queue.
+     *
+     * @param element Element to be inserted.
+     */
+    @Override
+    public void offer(E element) {
+        data.addLast(element);
+    }
+
+    /**
+     * @return The value first element of the queue (with out removing it), or
+     * null if empty.
+     */
+    @Override
+    public E peek() {
+        return data.first();
+    }
+
+    /**
+     * @return The value of the first element of the queue (and removes it), or
+     * null if empty.
+     */
+    @Override
+    public E poll() {
+        return data.removeFirst();
+    }
+
+    /**
+     * Inserts all of the given elements at the end of the queue, in order.
+     * Null elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(E[] elements) {
+        data.addAllLast(elements, 0, elements.length);
+    }
+
+    /**
+     * Removes up to n elements from the front of the queue and hands each one,
+     * in order, to the consumer. The consumer must not change this queue.
+     *
+     * @param n        Most elements to remove.
+     * @param consumer Receives each removed element.
+     * @return The number of elements removed, 0 if the queue was empty.
+     */
+    @Override
+    public int pollN(int n, Consumer<? super E> consumer) {
+        return data.removeFirst(n, consumer);
+    }
+
+    /**
+     * @return An iterator over the elements of the queue in the order they
+     * would be polled, without removing them. It fails fast if the queue is
+     * changed while in use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return data.iterator();
+    }
+
+    /**
+     * @return A spliterator over the elements of the queue in the order they
+     * would be polled, which knows its exact size and splits evenly.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return data.spliterator();
+    }
+
+    /**
+     * Prints the contents of the queue starting at top, one item per line. Note
+     * this method should not empty the contents of the queue.
+     */
+    @Override
+    public void printQueue() {
+        data.printList();
+    }
+
+    /**
+     * Tranfers the contents of this queue into the provided queue. The contents
+     * of this queue are to found in reverse order at the top of the provided
+     * queue. This queue should be empty once the transfer is completed. Note
+     * that if the provided queue is null, nothing is to happen.
+     *
+     * @param into The new queue onto which the reversed order of contents from
+     *             this queue are to be transferred to the top of, unless the provided queue
+     *             is null.
+     */
+    @Override
+    public void transfer(Queue<E> into) {
+        if(into == null)
+            return;
+
+        while(this.size() > 0)
+            into.offer(data.removeLast());
+    }
+
+    /**
+     * Reverses the contents of this queue.
+     */
+    @Override
+    public void reverse() {
+        data.reverse();
+    }
+
+    /**
+     * Merges the contents of the provided queue onto the bottom of this queue.
+     * The order of both queues must be preserved in the order of this queue
+     * after the method call. Furthermore, the provided queue must still contain
+     * its original contents in their original order after the method is
+     * complete. If the provided queue is null, no changes should occur.
+     *
+     * @param from Queue whose contents are to be merged onto the bottom of
+     *             this queue.
+     */
+    @Override
+    public void merge(Queue<E> from) {
+        if(from == null)
+            return;
+
+        // rotate the other queue through once, so no buffer queue is needed
+        for(int i = from.size(); i > 0; i--) {
+            E bufferObj = from.poll();
+            this.offer(bufferObj);
+            from.offer(bufferObj);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Stack;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+public class ArrayStack<E> implements Stack<E> {
+
+    private CircularArrayList<E> data;
+
+    public ArrayStack(int initialCapacity) {
+        data = new CircularArrayList<E>(initialCapacity);
+    }
+
+    public ArrayStack() {
+        data = new CircularArrayList<E>();
+    }
+
+    /**
+     * Adds the provided item to the top of the stack. Note that if the item is
+     * null, nothing occurs.
+     *
+     * @param element Element added to the top of the stack, unless this item is
+     *                null.
+     */
+    @Override
+    public void push(E element) {
+        data.addFirst(element);
+    }
+
+    /**
+     * Returns the value of the top item in the stack, without removing it. If
+     * the stack is empty then null is returned.
+     *
+     * @return The value of the item at the top of the stack, or null if the
+     * stack is empty.
+     */
+    @Override
+    public E peek() {
+        return data.first();
+    }
+
+    /**
+     * Removes the top item from the stack and returns it's value. If the stack
+     * is currently empty, null is returned.
+     *
+     * @return The value of the top item in the stack, or null if the stack is
+     * empty.
+     */
+    @Override
+    public E pop() {
+        return data.removeFirst();
+    }
+
+    /**
+     * @return The current number of items in this stack.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * A test to determine if this Stack is currently empty.
+     *
+     * @return True if this stack is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * Tranfers the contents of this stack into the provided stack. The contents
+     * of this stack are to found in reverse order at the top of the provided
+     * stack. This stack should be empty once the transfer is completed. Note
+     * that if the provided stack is null, nothing is to happen.
+     *
+     * @param to The new stack onto which the reversed order of contents from
+     *           this stack are to be transferred to the top of, unless the provided stack
+     *           is null.
+     */
+    @Override
+    public void transfer(Stack<E> to) {
+        if(to == null)
+            return;
+
+        while(this.size() > 0)
+            to.push(this.pop());
+    }
+
+    /**
+     * Reverses the contents of this stack.
+     */
+    @Override
+    public void reverse() {
+        data.reverse();
+    }
+
+    /**
+     * Merges the contents of the provided stack onto the bottom of this stack.
+     * The order of both stacks must be preserved in the order of this stack
+     * after the method call. Furthermore, the provided stack must still contain
+     * its original contents in their original order after the method is
+     * complete. If the provided stack is null, no changes should occur.
+     *
+     * @param other Stack whose contents are to be merged onto the bottom of
+     *              this stack.
+     */
+    @Override
+    public void merge(Stack<E> other) {
+        if(other == null)
+            return;
+
+        ArrayStack<E> bufferStack = new ArrayStack<E>(other.size());
+        E bufferObj = null;
+
+        while(other.size() > 0)
+            bufferStack.push(other.pop());
+
+        while(bufferStack.size() > 0) {
+            bufferObj = bufferStack.pop();
+            this.push(bufferObj);
+            other.push(bufferObj);
+        }
+    }
+
+    /**
+     * Pushes each of the given elements in order, so the last of them ends up
+     * on top. Null elements are skipped.
+     *
+     * @param elements Elements to be pushed.
+     */
+    @Override
+    public void pushAll(E[] elements) {
+        data.addAllFirst(elements, 0, elements.length);
+    }
+
+    /**
+     * Pops up to n elements off the stack and hands each one, top first, to
+     * the consumer. The consumer must not change this stack.
+     *
+     * @param n        Most elements to pop.
+     * @param consumer Receives each popped element.
+     * @return The number of elements popped, 0 if the stack was empty.
+     */
+    @Override
+    public int popN(int n, Consumer<? super E> consumer) {
+        return data.removeFirst(n, consumer);
+    }
+
+    /**
+     * @return An iterator over the elements of the stack from the top down,
+     * without removing them. It fails fast if the stack is changed while in
+     * use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return data.iterator();
+    }
+
+    /**
+     * @return A spliterator over the elements of the stack from the top down,
+     * which knows its exact size and splits evenly.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return data.spliterator();
+    }
+
+    /**
+     * Prints the contents of the stack starting at top, one item per line. Note
+     * this method should not empty the contents of the stack.
+     */
+    @Override
+    public void printStack() {
+        data.printList();
+    }
+}
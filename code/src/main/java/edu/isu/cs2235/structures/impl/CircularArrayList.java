@@ -0,0 +1,493 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.List;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/***
+ * A List backed by a growable circular array whose capacity is always a power
+ * of two. Adding and removing at either end is amortized O(1) and doesn't
+ * allocate anything per element, which makes it a drop-in backing store for
+ * the queue, stack and deque adapters.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the list
+ */
+public class CircularArrayList<E> implements List<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head;
+    private int numberOfElements;
+    // bumped by every change to the contents, so iterators can fail fast
+    private int modCount;
+
+    /**
+     * Constructs an empty list with the default capacity.
+     */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list able to hold at least the given number of
+     * elements before it has to grow.
+     *
+     * @param initialCapacity Number of elements to reserve space for. Rounded
+     *                        up to the next power of two.
+     */
+    public CircularArrayList(int initialCapacity) {
+        elements = new Object[capacityFor(initialCapacity)];
+    }
+
+    // Rounds the requested capacity up to a power of two so that wrapping an
+    // index is a single mask instead of a modulo
+    private static int capacityFor(int requested) {
+        if(requested <= 1)
+            return 1;
+        if(requested >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+        return Integer.highestOneBit(requested - 1) << 1;
+    }
+
+    // Maps a logical index (0 is the first element) onto a slot in the array
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) elements[slot];
+    }
+
+    private void ensureSpaceForOneMore() {
+        ensureCapacity(numberOfElements + 1);
+    }
+
+    // Grows the backing array to fit at least the given number of elements,
+    // unrolling the contents so that head is 0 again
+    private void ensureCapacity(int required) {
+        if(required <= elements.length)
+            return;
+        if(required < 0 || required > MAXIMUM_CAPACITY)
+            throw new IllegalStateException("CircularArrayList is at maximum capacity");
+
+        Object[] grown = new Object[capacityFor(required)];
+        int firstRun = Math.min(numberOfElements, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstRun);
+        System.arraycopy(elements, 0, grown, firstRun, numberOfElements - firstRun);
+        elements = grown;
+        head = 0;
+    }
+
+    /**
+     * @return first element in the list or null if the list is empty.
+     */
+    @Override
+    public E first() {
+        if(numberOfElements > 0) {
+            return elementAt(head);
+        }
+        return null;
+    }
+
+    /**
+     * @return last element in the list or null if the list is empty.
+     */
+    @Override
+    public E last() {
+        if(numberOfElements > 0) {
+            return elementAt(slot(numberOfElements - 1));
+        }
+        return null;
+    }
+
+    /**
+     * Adds the provided element to the end of the list, only if the element is
+     * not null.
+     *
+     * @param element Element to be added to the end of the list.
+     */
+    @Override
+    public void addLast(E element) {
+        if(element != null) {
+            ensureSpaceForOneMore();
+            elements[slot(numberOfElements)] = element;
+            numberOfElements++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Adds the provided element to the front of the list, only if the element
+     * is not null.
+     *
+     * @param element Element to be added to the front of the list.
+     */
+    @Override
+    public void addFirst(E element) {
+        if(element != null) {
+            ensureSpaceForOneMore();
+            head = (head - 1) & (elements.length - 1);
+            elements[head] = element;
+            numberOfElements++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Removes the element at the front of the list.
+     *
+     * @return Element at the front of the list, or null if the list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        if(numberOfElements > 0) {
+            E retval = elementAt(head);
+            elements[head] = null; // don't hang on to references we no longer own
+            head = (head + 1) & (elements.length - 1);
+
+            numberOfElements--;
+            modCount++;
+            return retval;
+        }
+        return null;
+    }
+
+    /**
+     * Removes the element at the end of the list.
+     *
+     * @return Element at the end of the list, or null if the list is empty.
+     */
+    @Override
+    public E removeLast() {
+        if(numberOfElements > 0) {
+            int tail = slot(numberOfElements - 1);
+            E retval = elementAt(tail);
+            elements[tail] = null;
+
+            numberOfElements--;
+            modCount++;
+            return retval;
+        }
+        return null;
+    }
+
+    /**
+     * Adds the given elements to the end of the list, in order, skipping any
+     * that are null. The array grows at most once and the size is updated once.
+     *
+     * @param source Array holding the elements to add.
+     * @param offset Index in the array of the first element.
+     * @param length Number of elements to add from the array.
+     */
+    public void addAllLast(E[] source, int offset, int length) {
+        ensureCapacity(numberOfElements + length);
+        int mask = elements.length - 1;
+        int tail = head + numberOfElements;
+        int added = 0;
+        for(int i = offset; i < offset + length; i++) {
+            E element = source[i];
+            if(element != null) {
+                elements[(tail + added) & mask] = element;
+                added++;
+            }
+        }
+        numberOfElements += added;
+        modCount++;
+    }
+
+    /**
+     * Adds the given elements to the front of the list one after another,
+     * skipping any that are null, so the last of them ends up first. The array
+     * grows at most once and the size is updated once.
+     *
+     * @param source Array holding the elements to add.
+     * @param offset Index in the array of the first element.
+     * @param length Number of elements to add from the array.
+     */
+    public void addAllFirst(E[] source, int offset, int length) {
+        ensureCapacity(numberOfElements + length);
+        int mask = elements.length - 1;
+        int added = 0;
+        for(int i = offset; i < offset + length; i++) {
+            E element = source[i];
+            if(element != null) {
+                head = (head - 1) & mask;
+                elements[head] = element;
+                added++;
+            }
+        }
+        numberOfElements += added;
+        modCount++;
+    }
+
+    /**
+     * Removes up to the given number of elements from the front of the list,
+     * handing each to the consumer in order. Each slot is cleared and head
+     * moved past it before its element is handed over, so if the consumer
+     * throws, the list holds exactly the elements it has not yet been given.
+     * The consumer must not change this list.
+     *
+     * @param count    Most elements to remove.
+     * @param consumer Receives each removed element.
+     * @return The number of elements removed, 0 if the list was empty.
+     */
+    public int removeFirst(int count, Consumer<? super E> consumer) {
+        int removed = Math.min(Math.max(count, 0), numberOfElements);
+        int mask = elements.length - 1;
+        if(removed > 0)
+            modCount++;
+        for(int i = 0; i < removed; i++) {
+            E element = elementAt(head);
+            elements[head] = null;
+            head = (head + 1) & mask;
+            numberOfElements--;
+            consumer.accept(element);
+        }
+        return removed;
+    }
+
+    /**
+     * Inserts the given element into the list at the provided index. The
+     * element will not be inserted if either the element provided is null or if
+     * the index provided is less than 0. If the index is greater than or equal
+     * to the current size of the list, the element will be added to the end of
+     * the list.
+     *
+     * @param element Element to be added (as long as it is not null).
+     * @param index   Index in the list where the element is to be inserted.
+     */
+    @Override
+    public void insert(E element, int index) {
+        if(element != null && index >= 0) {
+            if(index >= numberOfElements) {
+                addLast(element);
+                return;
+            }
+            if(index == 0) {
+                addFirst(element);
+                return;
+            }
+
+            ensureSpaceForOneMore();
+            // shift whichever side of the index is shorter to open up a slot
+            if(index < numberOfElements / 2) {
+                head = (head - 1) & (elements.length - 1);
+                for(int i = 0; i < index; i++)
+                    elements[slot(i)] = elements[slot(i + 1)];
+            } else {
+                for(int i = numberOfElements; i > index; i--)
+                    elements[slot(i)] = elements[slot(i - 1)];
+            }
+            elements[slot(index)] = element;
+
+            numberOfElements++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Removes the element at the given index and returns the value.
+     *
+     * @param index Index of the element to remove
+     * @return The value of the element at the given index, or null if the index
+     * is greater than or equal to the size of the list or less than 0.
+     */
+    @Override
+    public E remove(int index) {
+        if(index >= 0 && index < numberOfElements) {
+            E retval = elementAt(slot(index));
+
+            // close the gap from whichever side of the index is shorter
+            if(index < numberOfElements / 2) {
+                for(int i = index; i > 0; i--)
+                    elements[slot(i)] = elements[slot(i - 1)];
+                elements[head] = null;
+                head = (head + 1) & (elements.length - 1);
+            } else {
+                for(int i = index; i < numberOfElements - 1; i++)
+                    elements[slot(i)] = elements[slot(i + 1)];
+                elements[slot(numberOfElements - 1)] = null;
+            }
+
+            numberOfElements--;
+            modCount++;
+            return retval;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the value at the specified index. Will return null if the index
+     * provided is less than 0 or greater than or equal to the current size of
+     * the list.
+     *
+     * @param index Index of the value to be retrieved.
+     * @return Element at the given index, or null if the index is less than 0
+     * or greater than or equal to the list size.
+     */
+    @Override
+    public E get(int index) {
+        if(index >= 0 && index < numberOfElements) {
+            return elementAt(slot(index));
+        }
+        return null;
+    }
+
+    /**
+     * Reverses the order of the elements in place by swapping from both ends
+     * towards the middle.
+     */
+    public void reverse() {
+        for(int i = 0, j = numberOfElements - 1; i < j; i++, j--) {
+            int a = slot(i);
+            int b = slot(j);
+            Object tmp = elements[a];
+            elements[a] = elements[b];
+            elements[b] = tmp;
+        }
+        modCount++;
+    }
+
+    /**
+     * @return The current size of the list. Note that 0 is returned for an
+     * empty list.
+     */
+    @Override
+    public int size() {
+        return numberOfElements;
+    }
+
+    /**
+     * @return true if there are no items currently stored in the list, false
+     * otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return numberOfElements == 0;
+    }
+
+    /**
+     * Prints the contents of the list in a single line separating each element
+     * by a space to the default System.out
+     */
+    @Override
+    public void printList() {
+        for(int i = 0; i < numberOfElements; i++) {
+            System.out.println(elements[slot(i)]);
+        }
+    }
+
+    /**
+     * @return An iterator over the elements from first to last. It fails fast,
+     * throwing ConcurrentModificationException if the list is changed while it
+     * is in use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * @return A spliterator over the elements from first to last, which binds
+     * to the list when first used, fails fast like the iterator, and splits by
+     * halving its range of indices.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexSpliterator(0, -1, 0);
+    }
+
+    private class Itr implements Iterator<E> {
+        private int next;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < numberOfElements;
+        }
+
+        @Override
+        public E next() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if(next >= numberOfElements)
+                throw new NoSuchElementException();
+            return elementAt(slot(next++));
+        }
+    }
+
+    private class IndexSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence; // -1 until first used
+        private int expectedModCount;
+
+        IndexSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if(fence < 0) {
+                expectedModCount = modCount;
+                fence = numberOfElements;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int lo = index;
+            int mid = (lo + getFence()) >>> 1;
+            if(lo >= mid)
+                return null;
+            index = mid;
+            return new IndexSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            if(index >= getFence())
+                return false;
+            E element = elementAt(slot(index++));
+            action.accept(element);
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            int hi = getFence();
+            Object[] a = elements;
+            int mask = a.length - 1;
+            for(int i = index; i < hi; i++)
+                action.accept((E) a[(head + i) & mask]);
+            index = hi;
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
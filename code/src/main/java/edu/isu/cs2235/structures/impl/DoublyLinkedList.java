@@ -1,6 +1,11 @@
 package edu.isu.cs2235.structures.impl;
 
 import edu.isu.cs2235.structures.List;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /***
  * @author Brigham Campbell
@@ -31,6 +36,106 @@ public class DoublyLinkedList<E> implements List<E> {
     private Node<E> first;
     private Node<E> last;
 
+    // The most recently accessed node and its index. Index based access walks
+    // from whichever of first, last or the finger is closest, so a scan by
+    // increasing (or decreasing) index only takes one step per call. Any
+    // change to the list either keeps fingerIndex correct or clears finger.
+    private Node<E> finger;
+    private int fingerIndex;
+
+    // bumped by every change to the contents, so iterators can fail fast
+    private int modCount;
+
+    // Removed nodes kept for reuse, chained through next, so a list whose
+    // size holds steady stops allocating once it has warmed up
+    private final int poolCapacity;
+    private Node<E> pool;
+    private int poolSize;
+
+    /**
+     * Constructs an empty list that allocates a new node for every element
+     * added.
+     */
+    public DoublyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty list that keeps up to the given number of removed
+     * nodes and reuses them for elements added later.
+     *
+     * @param poolCapacity most removed nodes to keep, 0 to keep none
+     */
+    public DoublyLinkedList(int poolCapacity) {
+        if(poolCapacity < 0)
+            throw new IllegalArgumentException("Node pool capacity must not be negative: " + poolCapacity);
+        this.poolCapacity = poolCapacity;
+    }
+
+    private Node<E> newNode(E element, Node<E> prev, Node<E> next) {
+        Node<E> node = pool;
+        if(node == null)
+            return new Node<E>(element, prev, next);
+        pool = node.next;
+        poolSize--;
+        node.element = element;
+        node.prev = prev;
+        node.next = next;
+        return node;
+    }
+
+    // Hands a node that is no longer linked into the list back to the pool,
+    // dropping its element so the pool doesn't keep it alive
+    private void recycle(Node<E> node) {
+        node.element = null;
+        node.prev = null;
+        if(poolSize < poolCapacity) {
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    /**
+     * Finds the node at the given index, which must be in bounds, and leaves
+     * the finger on it.
+     */
+    private Node<E> nodeAt(int index) {
+        Node<E> current;
+        int at;
+        int distance;
+        // start from whichever end is closer
+        if(index < numberOfNodes - 1 - index) {
+            current = first;
+            at = 0;
+            distance = index;
+        } else {
+            current = last;
+            at = numberOfNodes - 1;
+            distance = at - index;
+        }
+        // unless the finger is closer still
+        if(finger != null && Math.abs(index - fingerIndex) < distance) {
+            current = finger;
+            at = fingerIndex;
+        }
+
+        while(at < index) {
+            current = current.next;
+            at++;
+        }
+        while(at > index) {
+            current = current.prev;
+            at--;
+        }
+
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+
     /**
      * @return first element in the list or null if the list is empty.
      */
@@ -62,7 +167,7 @@ public class DoublyLinkedList<E> implements List<E> {
     @Override
     public void addLast(E element) {
         if(element != null) {
-            Node<E> newNode = new Node<E>(element, null, null);
+            Node<E> newNode = newNode(element, null, null);
             // NOTE: If there aren't any pre-existing nodes, the new node is the first and last
             if(numberOfNodes > 0) {
                 last.setNext(newNode);
@@ -73,6 +178,7 @@ public class DoublyLinkedList<E> implements List<E> {
                 last = newNode;
             }
             numberOfNodes++;
+            modCount++;
         }
     }
 
@@ -85,17 +191,19 @@ public class DoublyLinkedList<E> implements List<E> {
     @Override
     public void addFirst(E element) {
         if(element != null) {
-            Node<E> newNode = new Node<E>(element, null, null);
+            Node<E> newNode = newNode(element, null, null);
             // NOTE: If there aren't any pre-existing nodes, the new node is the first and last
             if(numberOfNodes > 0) {
                 first.setPrev(newNode);
                 newNode.setNext(first);
                 first = newNode;
+                fingerIndex++;
             } else {
                 first = newNode;
                 last = newNode;
             }
             numberOfNodes++;
+            modCount++;
         }
     }
 
@@ -107,18 +215,29 @@ public class DoublyLinkedList<E> implements List<E> {
     @Override
     public E removeFirst() {
         if(numberOfNodes > 1) {
-            E retval = first.element;
+            Node<E> removed = first;
+            E retval = removed.element;
+            if(finger == removed)
+                finger = null;
+            fingerIndex--;
             first.next.setPrev(null);
             first = first.next;
+            recycle(removed);
 
             numberOfNodes--;
+
+            modCount++;
             return retval;
         } else if(numberOfNodes == 1) {
             E retval = first.element;
+            recycle(first);
             first = null;
             last = null;
+            finger = null;
 
             numberOfNodes--;
+
+            modCount++;
             return retval;
         }
         return null;
@@ -133,18 +252,28 @@ public class DoublyLinkedList<E> implements List<E> {
     public E removeLast() {
         // This is much easier than the singly-linked list implementation
         if(numberOfNodes > 1) {
-            E retval = last.element;
+            Node<E> removed = last;
+            E retval = removed.element;
+            if(finger == removed)
+                finger = null;
             last.prev.setNext(null);
             last = last.prev;
+            recycle(removed);
 
             numberOfNodes--;
+
+            modCount++;
             return retval;
         } else if(numberOfNodes == 1) {
             E retval = last.element;
+            recycle(last);
             first = null;
             last = null;
+            finger = null;
 
             numberOfNodes--;
+
+            modCount++;
             return retval;
         }
         return null;
@@ -173,15 +302,15 @@ public class DoublyLinkedList<E> implements List<E> {
             }
 
             // traverse to find the desired insertion location
-            Node<E> before = first;
-            for(int i = 0; i < index; i++) {
-                before = before.next;
-            }
-            Node<E> newNode = new Node<E>(element, before.prev, before);
+            Node<E> before = nodeAt(index);
+            Node<E> newNode = newNode(element, before.prev, before);
             before.prev.setNext(newNode);
             before.setPrev(newNode);
 
+            // the new node now sits at the index the finger was left on
+            finger = newNode;
             numberOfNodes++;
+            modCount++;
         }
     }
 
@@ -203,14 +332,19 @@ public class DoublyLinkedList<E> implements List<E> {
             }
 
             // traverse to find the desired node to remove
-            Node<E> before = first;
-            for(int i = 0; i < index; i++) {
-                before = before.next;
-            }
-            E retval = before.prev.element;
-            if(before.prev.prev != null)
-                before.prev.prev.setNext(before);
-            before.setPrev(before.prev.prev);
+            Node<E> target = nodeAt(index);
+            // neither end is being removed, so both neighbours exist
+            target.prev.setNext(target.next);
+            target.next.setPrev(target.prev);
+
+            // the next node slides into the index the finger was left on
+            finger = target.next;
+
+            numberOfNodes--;
+
+            modCount++;
+            E retval = target.element;
+            recycle(target);
             return retval;
         }
         return null;
@@ -228,15 +362,208 @@ public class DoublyLinkedList<E> implements List<E> {
     @Override
     public E get(int index) {
         if(index >= 0 && index < numberOfNodes) { // if we're out of bounds, return null
-            Node<E> current = first;
-            for(int i = 0; i < index; i++) {
-                current = current.next;
-            }
-            return current.element;
+            return nodeAt(index).element;
         }
         return null;
     }
 
+    /**
+     * Reverses the order of the elements in place by swapping the links of
+     * every node, without allocating or moving any elements.
+     */
+    public void reverse() {
+        Node<E> current = first;
+        while(current != null) {
+            Node<E> next = current.next;
+            current.next = current.prev;
+            current.prev = next;
+            current = next;
+        }
+        Node<E> tmp = first;
+        first = last;
+        last = tmp;
+        // the finger stays on its node, which is now counted from the other end
+        fingerIndex = numberOfNodes - 1 - fingerIndex;
+        modCount++;
+    }
+
+    /**
+     * Moves every element of the given list onto the end of this one, in
+     * order, by relinking its nodes in O(1). The given list is left empty.
+     *
+     * @param other List whose elements are moved, must not be this list.
+     */
+    public void spliceLast(DoublyLinkedList<E> other) {
+        if(other == this)
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        if(other.numberOfNodes == 0)
+            return;
+        if(numberOfNodes == 0) {
+            first = other.first;
+        } else {
+            last.setNext(other.first);
+            other.first.setPrev(last);
+        }
+        last = other.last;
+        // indices in this list are unchanged, so the finger stays valid
+        numberOfNodes += other.numberOfNodes;
+        modCount++;
+        other.clear();
+    }
+
+    /**
+     * Moves every element of the given list onto the front of this one, in
+     * order, by relinking its nodes in O(1). The given list is left empty.
+     *
+     * @param other List whose elements are moved, must not be this list.
+     */
+    public void spliceFirst(DoublyLinkedList<E> other) {
+        if(other == this)
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        if(other.numberOfNodes == 0)
+            return;
+        if(numberOfNodes == 0) {
+            last = other.last;
+        } else {
+            first.setPrev(other.last);
+            other.last.setNext(first);
+        }
+        first = other.first;
+        fingerIndex += other.numberOfNodes;
+        numberOfNodes += other.numberOfNodes;
+        modCount++;
+        other.clear();
+    }
+
+    /**
+     * Copies every element of the given list onto the end of this one, in
+     * order, in a single pass over its nodes. The given list is not changed,
+     * and may be this list, in which case its contents are doubled.
+     *
+     * @param other List whose elements are copied.
+     */
+    public void copyLast(DoublyLinkedList<E> other) {
+        // bounded by the starting size so copying a list onto itself ends
+        Node<E> current = other.first;
+        for(int i = other.numberOfNodes; i > 0; i--) {
+            addLast(current.element);
+            current = current.next;
+        }
+    }
+
+    /**
+     * Adds the given elements to the end of the list, in order, skipping any
+     * that are null. The new nodes are chained together first and linked on in
+     * one go, so the size is only updated once.
+     *
+     * @param elements Elements to be added to the end of the list.
+     */
+    public void addAllLast(Iterable<? extends E> elements) {
+        Node<E> chainFirst = null;
+        Node<E> chainLast = null;
+        int added = 0;
+        for(E element : elements) {
+            if(element == null)
+                continue;
+            Node<E> node = newNode(element, chainLast, null);
+            if(chainLast == null)
+                chainFirst = node;
+            else
+                chainLast.next = node;
+            chainLast = node;
+            added++;
+        }
+        if(added == 0)
+            return;
+        if(numberOfNodes == 0) {
+            first = chainFirst;
+        } else {
+            last.next = chainFirst;
+            chainFirst.prev = last;
+        }
+        last = chainLast;
+        numberOfNodes += added;
+        modCount++;
+    }
+
+    /**
+     * Adds the given elements to the front of the list one after another,
+     * skipping any that are null, so the last of them ends up first. The new
+     * nodes are chained together first and linked on in one go.
+     *
+     * @param elements Elements to be added to the front of the list.
+     */
+    public void addAllFirst(Iterable<? extends E> elements) {
+        Node<E> chainFirst = null;
+        Node<E> chainLast = null;
+        int added = 0;
+        for(E element : elements) {
+            if(element == null)
+                continue;
+            Node<E> node = newNode(element, null, chainFirst);
+            if(chainFirst == null)
+                chainLast = node;
+            else
+                chainFirst.prev = node;
+            chainFirst = node;
+            added++;
+        }
+        if(added == 0)
+            return;
+        if(numberOfNodes == 0) {
+            last = chainLast;
+        } else {
+            first.prev = chainLast;
+            chainLast.next = first;
+        }
+        first = chainFirst;
+        fingerIndex += added;
+        numberOfNodes += added;
+        modCount++;
+    }
+
+    /**
+     * Removes up to the given number of elements from the front of the list,
+     * handing each to the consumer in order. Each node is unlinked and recycled
+     * before its element is handed over, so if the consumer throws, the list
+     * holds exactly the elements it has not yet been given. The consumer must
+     * not change this list.
+     *
+     * @param count    Most elements to remove.
+     * @param consumer Receives each removed element.
+     * @return The number of elements removed, 0 if the list was empty.
+     */
+    public int removeFirst(int count, Consumer<? super E> consumer) {
+        int removed = Math.min(Math.max(count, 0), numberOfNodes);
+        if(removed == 0)
+            return 0;
+        modCount++;
+        for(int i = 0; i < removed; i++) {
+            Node<E> current = first;
+            E element = current.element;
+            first = current.next;
+            if(first == null)
+                last = null;
+            else
+                first.prev = null;
+            if(current == finger)
+                finger = null;
+            fingerIndex--;
+            numberOfNodes--;
+            recycle(current);
+            consumer.accept(element);
+        }
+        return removed;
+    }
+
+    private void clear() {
+        first = null;
+        last = null;
+        finger = null;
+        numberOfNodes = 0;
+        modCount++;
+    }
+
     /**
      * @return The current size of the list. Note that 0 is returned for an
      * empty list.
@@ -267,4 +594,125 @@ public class DoublyLinkedList<E> implements List<E> {
             current = current.next;
         }
     }
+
+    /**
+     * @return An iterator over the elements from first to last, walking the
+     * links so a full pass is O(n). It fails fast, throwing
+     * ConcurrentModificationException if the list is changed while it is in
+     * use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * @return A spliterator over the elements from first to last, which binds
+     * to the list when first used and fails fast like the iterator. It splits
+     * exactly in half by walking to the middle of its range, which costs a
+     * pass over half the range but keeps parallel work balanced.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator(null, -1, 0);
+    }
+
+    private class Itr implements Iterator<E> {
+        private Node<E> next = first;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            // removed nodes may be recycled, so check before following links
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if(next == null)
+                throw new NoSuchElementException();
+            E element = next.element;
+            next = next.next;
+            return element;
+        }
+    }
+
+    private class NodeSpliterator implements Spliterator<E> {
+        private Node<E> current;
+        private int remaining; // -1 until first used
+        private int expectedModCount;
+
+        NodeSpliterator(Node<E> origin, int remaining, int expectedModCount) {
+            this.current = origin;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getRemaining() {
+            if(remaining < 0) {
+                expectedModCount = modCount;
+                current = first;
+                remaining = numberOfNodes;
+            }
+            return remaining;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int half = getRemaining() >>> 1;
+            if(half == 0)
+                return null;
+            checkForComodification();
+            Node<E> prefix = current;
+            for(int i = 0; i < half; i++)
+                current = current.next;
+            remaining -= half;
+            return new NodeSpliterator(prefix, half, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            if(getRemaining() == 0)
+                return false;
+            checkForComodification();
+            E element = current.element;
+            current = current.next;
+            remaining--;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            for(int n = getRemaining(); n > 0; n--) {
+                checkForComodification();
+                E element = current.element;
+                current = current.next;
+                remaining--;
+                action.accept(element);
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
 }
@@ -0,0 +1,391 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Stack;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/***
+ * A thread-safe lock-free stack: a Treiber stack (a singly linked list whose
+ * top is swung with compare-and-set) with an elimination array in front of it,
+ * after Hendler, Shavit and Yerushalmi, "A Scalable Lock-free Stack
+ * Algorithm" (2004). When a push loses the race for top it posts its node in a
+ * random slot of the array and waits briefly; a pop that loses the race looks
+ * in a random slot and takes any node waiting there. Such a push and pop cancel
+ * out without touching top at all, so under heavy contention most pairs never
+ * fight over the single top reference.
+ *
+ * Nodes are never changed once they are on the stack, so any read of top is a
+ * consistent snapshot of the whole stack. Each node records the depth of the
+ * stack below it, which makes size O(1) and exact. push, pop, peek, size,
+ * isEmpty, reverse and merge are all linearizable; reverse and merge copy the
+ * stack and retry if another thread changes it first. transfer moves the whole
+ * stack out at once but pushes it onto the other stack one element at a time.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the stack
+ */
+public class EliminationBackoffStack<E> implements Stack<E> {
+
+    // how long a posted push waits for a pop to take it
+    private static final int ELIMINATION_SPINS = 128;
+
+    private static class Node<E> {
+        private final E element;
+        private Node<E> next;
+        private int depth;
+
+        Node(E element) {
+            this.element = element;
+        }
+
+        // Sets the node up to sit on top of the given one
+        void linkTo(Node<E> below) {
+            next = below;
+            depth = below == null ? 1 : below.depth + 1;
+        }
+    }
+
+    private final AtomicReference<Node<E>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<E>> elimination;
+
+    /**
+     * Constructs an empty stack with an elimination slot per available
+     * processor.
+     */
+    public EliminationBackoffStack() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an empty stack.
+     *
+     * @param eliminationSlots number of slots pushes and pops meet in, about
+     *                         half the number of threads expected to contend
+     *                         is plenty
+     */
+    public EliminationBackoffStack(int eliminationSlots) {
+        if(eliminationSlots < 1)
+            throw new IllegalArgumentException("At least one elimination slot is needed: " + eliminationSlots);
+        elimination = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * Adds the provided item to the top of the stack. Note that if the item is
+     * null, nothing occurs.
+     *
+     * @param element Element added to the top of the stack, unless this item is
+     *                null.
+     */
+    @Override
+    public void push(E element) {
+        if(element == null)
+            return;
+
+        Node<E> node = new Node<E>(element);
+        while(true) {
+            Node<E> h = top.get();
+            node.linkTo(h);
+            if(top.compareAndSet(h, node))
+                return;
+            if(eliminate(node))
+                return;
+        }
+    }
+
+    // Posts the node for a pop to take, true if one did
+    private boolean eliminate(Node<E> node) {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if(!elimination.compareAndSet(slot, null, node))
+            return false; // someone else is waiting there, back to top
+        for(int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            if(elimination.get(slot) != node)
+                return true;
+            SpinHint.onSpinWait();
+        }
+        // withdraw, unless a pop took it at the last moment
+        return !elimination.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Pushes each of the given elements in order, so the last of them ends up
+     * on top, skipping any that are null. The elements are chained together
+     * first and swung onto top with a single compare-and-set, so no other
+     * thread's push or pop can land in the middle of them.
+     *
+     * @param elements Elements to be pushed.
+     */
+    @Override
+    public void pushAll(E[] elements) {
+        pushAll(Arrays.asList(elements));
+    }
+
+    /**
+     * Pushes each of the given elements in order, so the last of them ends up
+     * on top, skipping any that are null. The elements are chained together
+     * first and swung onto top with a single compare-and-set, so no other
+     * thread's push or pop can land in the middle of them.
+     *
+     * @param elements Elements to be pushed.
+     */
+    @Override
+    public void pushAll(Iterable<? extends E> elements) {
+        CircularArrayList<Node<E>> chain = new CircularArrayList<>();
+        for(E element : elements) {
+            if(element != null)
+                chain.addLast(new Node<E>(element));
+        }
+        if(chain.isEmpty())
+            return;
+
+        Node<E> newTop = chain.last();
+        while(true) {
+            Node<E> h = top.get();
+            // the chain isn't published yet, so it can be relinked onto each new top
+            Node<E> below = h;
+            for(int i = 0; i < chain.size(); i++) {
+                Node<E> node = chain.get(i);
+                node.linkTo(below);
+                below = node;
+            }
+            if(top.compareAndSet(h, newTop))
+                return;
+        }
+    }
+
+    /**
+     * Returns the value of the top item in the stack, without removing it. If
+     * the stack is empty then null is returned.
+     *
+     * @return The value of the item at the top of the stack, or null if the
+     * stack is empty.
+     */
+    @Override
+    public E peek() {
+        Node<E> h = top.get();
+        return h == null ? null : h.element;
+    }
+
+    /**
+     * Removes the top item from the stack and returns it's value. If the stack
+     * is currently empty, null is returned.
+     *
+     * @return The value of the top item in the stack, or null if the stack is
+     * empty.
+     */
+    @Override
+    public E pop() {
+        while(true) {
+            Node<E> h = top.get();
+            if(h == null)
+                return null;
+            if(top.compareAndSet(h, h.next))
+                return h.element;
+
+            // lost the race for top, see if a push is waiting to be taken
+            int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+            Node<E> waiting = elimination.get(slot);
+            if(waiting != null && elimination.compareAndSet(slot, waiting, null))
+                return waiting.element;
+        }
+    }
+
+    /**
+     * @return The current number of items in this stack.
+     */
+    @Override
+    public int size() {
+        Node<E> h = top.get();
+        return h == null ? 0 : h.depth;
+    }
+
+    /**
+     * A test to determine if this Stack is currently empty.
+     *
+     * @return True if this stack is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Tranfers the contents of this stack into the provided stack. The contents
+     * of this stack are to found in reverse order at the top of the provided
+     * stack. This stack should be empty once the transfer is completed. Note
+     * that if the provided stack is null, nothing is to happen.
+     *
+     * @param to The new stack onto which the reversed order of contents from
+     *           this stack are to be transferred to the top of, unless the provided stack
+     *           is null.
+     */
+    @Override
+    public void transfer(Stack<E> to) {
+        if(to == null)
+            return;
+
+        // take the whole stack in one go, then hand it over top first
+        for(Node<E> node = top.getAndSet(null); node != null; node = node.next)
+            to.push(node.element);
+    }
+
+    /**
+     * Reverses the contents of this stack.
+     */
+    @Override
+    public void reverse() {
+        while(true) {
+            Node<E> h = top.get();
+            Node<E> reversed = null;
+            for(Node<E> node = h; node != null; node = node.next) {
+                Node<E> copy = new Node<E>(node.element);
+                copy.linkTo(reversed);
+                reversed = copy;
+            }
+            if(top.compareAndSet(h, reversed))
+                return;
+        }
+    }
+
+    /**
+     * Merges the contents of the provided stack onto the bottom of this stack.
+     * The order of both stacks must be preserved in the order of this stack
+     * after the method call. Furthermore, the provided stack must still contain
+     * its original contents in their original order after the method is
+     * complete. If the provided stack is null, no changes should occur.
+     *
+     * @param other Stack whose contents are to be merged onto the bottom of
+     *              this stack.
+     */
+    @Override
+    public void merge(Stack<E> other) {
+        if(other == null)
+            return;
+
+        // the other stack's contents, top first
+        CircularArrayList<E> above = new CircularArrayList<>(other.size());
+        if(other instanceof EliminationBackoffStack) {
+            // a snapshot of its nodes, which nobody changes, so no popping needed
+            Node<E> otherTop = ((EliminationBackoffStack<E>) other).top.get();
+            for(Node<E> node = otherTop; node != null; node = node.next)
+                above.addLast(node.element);
+        } else {
+            E element;
+            while((element = other.pop()) != null)
+                above.addLast(element);
+            for(int i = above.size() - 1; i >= 0; i--)
+                other.push(above.get(i));
+        }
+
+        while(true) {
+            Node<E> h = top.get();
+            // our nodes never change, so copies of the other stack's elements
+            // can sit straight on top of them, bottom-most first
+            Node<E> merged = h;
+            for(int i = above.size() - 1; i >= 0; i--) {
+                Node<E> copy = new Node<E>(above.get(i));
+                copy.linkTo(merged);
+                merged = copy;
+            }
+            if(top.compareAndSet(h, merged))
+                return;
+        }
+    }
+
+    /**
+     * @return An iterator over a snapshot of the stack from the top down,
+     * taken when it is created. Later pushes and pops don't affect it.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> next = top.get();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if(next == null)
+                    throw new NoSuchElementException();
+                E element = next.element;
+                next = next.next;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * @return A spliterator over a snapshot of the stack from the top down,
+     * taken when it is created. The snapshot never changes and its size is
+     * known exactly, so it splits evenly by walking to the middle.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        Node<E> h = top.get();
+        return new SnapshotSpliterator<E>(h, h == null ? 0 : h.depth);
+    }
+
+    private static class SnapshotSpliterator<E> implements Spliterator<E> {
+        private Node<E> current;
+        private int remaining;
+
+        SnapshotSpliterator(Node<E> origin, int remaining) {
+            this.current = origin;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int half = remaining >>> 1;
+            if(half == 0)
+                return null;
+            Node<E> prefix = current;
+            for(int i = 0; i < half; i++)
+                current = current.next;
+            remaining -= half;
+            return new SnapshotSpliterator<E>(prefix, half);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            if(remaining == 0)
+                return false;
+            E element = current.element;
+            current = current.next;
+            remaining--;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+    }
+
+    /**
+     * Prints the contents of the stack starting at top, one item per line. Note
+     * this method should not empty the contents of the stack.
+     */
+    @Override
+    public void printStack() {
+        for(Node<E> node = top.get(); node != null; node = node.next)
+            System.out.println(node.element);
+    }
+}
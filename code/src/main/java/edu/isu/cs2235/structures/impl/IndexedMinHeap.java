@@ -0,0 +1,154 @@
+package edu.isu.cs2235.structures.impl;
+
+/***
+ * A binary min-heap over a fixed set of slots 0 to capacity - 1, each holding
+ * a double key. Unlike a plain priority queue every slot can be found by its
+ * index, so its key can be changed in place in O(log n) and the slot with the
+ * smallest key is available in O(1). Ties are broken by the lower index, which
+ * makes the minimum the same slot a left to right scan would pick.
+ *
+ * Whole number keys, such as queue lengths, are exact up to 2^53 and can be
+ * stepped with increment and decrement. Fractional keys, such as the times
+ * of pending events, are changed with set. Nothing is allocated after
+ * construction.
+ *
+ * @author Brigham Campbell
+ */
+public class IndexedMinHeap {
+
+    private final double[] keys;  // keys[index] is the key of that slot
+    private final int[] heap;     // heap[position] is the slot at that position
+    private final int[] position; // position[index] is where that slot sits in heap
+
+    /**
+     * Constructs a heap of the given number of slots, all with a key of 0.
+     *
+     * @param capacity number of slots, must be positive
+     */
+    public IndexedMinHeap(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * Constructs a heap of the given number of slots, all with the given key.
+     *
+     * @param capacity   number of slots, must be positive
+     * @param initialKey the key every slot starts with, e.g. infinity for
+     *                   slots that have nothing scheduled yet
+     */
+    public IndexedMinHeap(int capacity, double initialKey) {
+        if(capacity < 1)
+            throw new IllegalArgumentException("IndexedMinHeap needs at least one slot: " + capacity);
+        keys = new double[capacity];
+        heap = new int[capacity];
+        position = new int[capacity];
+        // equal keys ordered by index already satisfy the heap property
+        for(int i = 0; i < capacity; i++) {
+            keys[i] = initialKey;
+            heap[i] = i;
+            position[i] = i;
+        }
+    }
+
+    /**
+     * @return The number of slots in the heap.
+     */
+    public int size() {
+        return heap.length;
+    }
+
+    /**
+     * @return The index of the slot with the smallest key, the lowest such index
+     * if several share it.
+     */
+    public int minIndex() {
+        return heap[0];
+    }
+
+    /**
+     * @return The smallest key in the heap.
+     */
+    public double minKey() {
+        return keys[heap[0]];
+    }
+
+    /**
+     * @param index slot to look up
+     * @return The key currently held by the slot.
+     */
+    public double key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Adds one to the key of the given slot.
+     *
+     * @param index slot to update
+     */
+    public void increment(int index) {
+        keys[index]++;
+        siftDown(position[index]);
+    }
+
+    /**
+     * Subtracts one from the key of the given slot.
+     *
+     * @param index slot to update
+     */
+    public void decrement(int index) {
+        keys[index]--;
+        siftUp(position[index]);
+    }
+
+    /**
+     * Replaces the key of the given slot.
+     *
+     * @param index slot to update
+     * @param key   the new key
+     */
+    public void set(int index, double key) {
+        double old = keys[index];
+        keys[index] = key;
+        if(key < old)
+            siftUp(position[index]);
+        else if(key > old)
+            siftDown(position[index]);
+    }
+
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    private void siftUp(int pos) {
+        int index = heap[pos];
+        while(pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if(!less(index, heap[parent]))
+                break;
+            place(heap[parent], pos);
+            pos = parent;
+        }
+        place(index, pos);
+    }
+
+    private void siftDown(int pos) {
+        int index = heap[pos];
+        int half = heap.length >>> 1;
+        while(pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if(right < heap.length && less(heap[right], heap[child]))
+                child = right;
+            if(!less(heap[child], index))
+                break;
+            place(heap[child], pos);
+            pos = child;
+        }
+        place(index, pos);
+    }
+
+    private void place(int index, int pos) {
+        heap[pos] = index;
+        position[index] = pos;
+    }
+}
@@ -0,0 +1,247 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.IntDeque;
+import edu.isu.cs2235.structures.IntQueue;
+import edu.isu.cs2235.structures.Queue;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+public class IntArrayDeque implements IntDeque {
+
+    private IntCircularArrayList data;
+
+    public IntArrayDeque(int initialCapacity) {
+        data = new IntCircularArrayList(initialCapacity);
+    }
+
+    public IntArrayDeque() {
+        data = new IntCircularArrayList();
+    }
+
+    /**
+     * @return The value of the last element of the deque (without removing
+     * it).
+     * @throws java.util.NoSuchElementException if the deque is empty.
+     */
+    @Override
+    public int peekLastInt() {
+        return data.last();
+    }
+
+    /**
+     * Inserts the given value into the front of the deque.
+     *
+     * @param value Value to be inserted to the front of the deque.
+     */
+    @Override
+    public void offerFirstInt(int value) {
+        data.addFirst(value);
+    }
+
+    /**
+     * @return The value of the last element of the deque (and removes it).
+     * @throws java.util.NoSuchElementException if the deque is empty.
+     */
+    @Override
+    public int pollLastInt() {
+        return data.removeLast();
+    }
+
+    /**
+     * @return The value of the last element of the deque (without removing it),
+     * or null if the deque is empty.
+     */
+    @Override
+    public Integer peekLast() {
+        return data.isEmpty() ? null : data.last();
+    }
+
+    /**
+     * Inserts the given element into the front of the deque, unless the
+     * provided value is null.
+     *
+     * @param element Element to be inserted to the front of the deque, nothing
+     *                happens if the value is null.
+     */
+    @Override
+    public void offerFirst(Integer element) {
+        if(element != null)
+            data.addFirst(element);
+    }
+
+    /**
+     * @return The value of the last item in the Deque and removes that value
+     * from the deque, if the deque was empty null is returned.
+     */
+    @Override
+    public Integer pollLast() {
+        return data.isEmpty() ? null : data.removeLast();
+    }
+
+    /**
+     * @return The number of elements in the queue
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * @return tests whether the queue is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * Inserts a value at the end of the queue.
+     *
+     * @param value Value to be inserted.
+     */
+    @Override
+    public void offerInt(int value) {
+        data.addLast(value);
+    }
+
+    /**
+     * @return The value of the first element of the queue (without removing
+     * it).
+     * @throws java.util.NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public int peekInt() {
+        return data.first();
+    }
+
+    /**
+     * @return The value of the first element of the queue (and removes it).
+     * @throws java.util.NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public int pollInt() {
+        return data.removeFirst();
+    }
+
+    /**
+     * Inserts an element at the end of the queue.
+     *
+     * @param element Element to be inserted.
+     */
+    @Override
+    public void offer(Integer element) {
+        if(element != null)
+            data.addLast(element);
+    }
+
+    /**
+     * @return The value first element of the queue (with out removing it), or
+     * null if empty.
+     */
+    @Override
+    public Integer peek() {
+        return data.isEmpty() ? null : data.first();
+    }
+
+    /**
+     * @return The value of the first element of the queue (and removes it), or
+     * null if empty.
+     */
+    @Override
+    public Integer poll() {
+        return data.isEmpty() ? null : data.removeFirst();
+    }
+
+    /**
+     * @return An iterator over the elements of the deque in the order they
+     * would be polled, without removing them. It fails fast if the deque is
+     * changed while in use.
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return data.iterator();
+    }
+
+    /**
+     * @return A spliterator over the elements of the deque in the order they
+     * would be polled, which knows its exact size and splits evenly.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return data.spliterator();
+    }
+
+    /**
+     * Prints the contents of the queue starting at top, one item per line. Note
+     * this method should not empty the contents of the queue.
+     */
+    @Override
+    public void printQueue() {
+        data.printList();
+    }
+
+    /**
+     * Tranfers the contents of this queue into the provided queue. The contents
+     * of this queue are to found in reverse order at the top of the provided
+     * queue. This queue should be empty once the transfer is completed. Note
+     * that if the provided queue is null, nothing is to happen.
+     *
+     * @param into The new queue onto which the reversed order of contents from
+     *             this queue are to be transferred to the top of, unless the provided queue
+     *             is null.
+     */
+    @Override
+    public void transfer(Queue<Integer> into) {
+        if(into == null)
+            return;
+
+        if(into instanceof IntQueue) {
+            IntQueue intInto = (IntQueue) into;
+            while(this.size() > 0)
+                intInto.offerInt(data.removeLast());
+        } else {
+            while(this.size() > 0)
+                into.offer(data.removeLast());
+        }
+    }
+
+    /**
+     * Reverses the contents of this queue.
+     */
+    @Override
+    public void reverse() {
+        data.reverse();
+    }
+
+    /**
+     * Merges the contents of the provided queue onto the bottom of this queue.
+     * The order of both queues must be preserved in the order of this queue
+     * after the method call. Furthermore, the provided queue must still contain
+     * its original contents in their original order after the method is
+     * complete. If the provided queue is null, no changes should occur.
+     *
+     * @param from Queue whose contents are to be merged onto the bottom of
+     *             this queue.
+     */
+    @Override
+    public void merge(Queue<Integer> from) {
+        if(from == null)
+            return;
+
+        // rotate the other queue through once, so no buffer queue is needed
+        if(from instanceof IntQueue) {
+            IntQueue intFrom = (IntQueue) from;
+            for(int i = intFrom.size(); i > 0; i--) {
+                int bufferValue = intFrom.pollInt();
+                data.addLast(bufferValue);
+                intFrom.offerInt(bufferValue);
+            }
+        } else {
+            for(int i = from.size(); i > 0; i--) {
+                Integer bufferObj = from.poll();
+                this.offer(bufferObj);
+                from.offer(bufferObj);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.IntStack;
+import edu.isu.cs2235.structures.Stack;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+public class IntArrayStack implements IntStack {
+
+    private IntCircularArrayList data;
+
+    public IntArrayStack(int initialCapacity) {
+        data = new IntCircularArrayList(initialCapacity);
+    }
+
+    public IntArrayStack() {
+        data = new IntCircularArrayList();
+    }
+
+    /**
+     * Adds the provided value to the top of the stack.
+     *
+     * @param value Value added to the top of the stack.
+     */
+    @Override
+    public void pushInt(int value) {
+        data.addFirst(value);
+    }
+
+    /**
+     * @return The value of the top item in the stack (without removing it).
+     * @throws java.util.NoSuchElementException if the stack is empty.
+     */
+    @Override
+    public int peekInt() {
+        return data.first();
+    }
+
+    /**
+     * @return The value of the top item in the stack (and removes it).
+     * @throws java.util.NoSuchElementException if the stack is empty.
+     */
+    @Override
+    public int popInt() {
+        return data.removeFirst();
+    }
+
+    /**
+     * Adds the provided item to the top of the stack. Note that if the item is
+     * null, nothing occurs.
+     *
+     * @param element Element added to the top of the stack, unless this item is
+     *                null.
+     */
+    @Override
+    public void push(Integer element) {
+        if(element != null)
+            data.addFirst(element);
+    }
+
+    /**
+     * Returns the value of the top item in the stack, without removing it. If
+     * the stack is empty then null is returned.
+     *
+     * @return The value of the item at the top of the stack, or null if the
+     * stack is empty.
+     */
+    @Override
+    public Integer peek() {
+        return data.isEmpty() ? null : data.first();
+    }
+
+    /**
+     * Removes the top item from the stack and returns it's value. If the stack
+     * is currently empty, null is returned.
+     *
+     * @return The value of the top item in the stack, or null if the stack is
+     * empty.
+     */
+    @Override
+    public Integer pop() {
+        return data.isEmpty() ? null : data.removeFirst();
+    }
+
+    /**
+     * @return The current number of items in this stack.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * A test to determine if this Stack is currently empty.
+     *
+     * @return True if this stack is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * Tranfers the contents of this stack into the provided stack. The contents
+     * of this stack are to found in reverse order at the top of the provided
+     * stack. This stack should be empty once the transfer is completed. Note
+     * that if the provided stack is null, nothing is to happen.
+     *
+     * @param to The new stack onto which the reversed order of contents from
+     *           this stack are to be transferred to the top of, unless the provided stack
+     *           is null.
+     */
+    @Override
+    public void transfer(Stack<Integer> to) {
+        if(to == null)
+            return;
+
+        if(to instanceof IntStack) {
+            IntStack intTo = (IntStack) to;
+            while(this.size() > 0)
+                intTo.pushInt(data.removeFirst());
+        } else {
+            while(this.size() > 0)
+                to.push(data.removeFirst());
+        }
+    }
+
+    /**
+     * Reverses the contents of this stack.
+     */
+    @Override
+    public void reverse() {
+        data.reverse();
+    }
+
+    /**
+     * Merges the contents of the provided stack onto the bottom of this stack.
+     * The order of both stacks must be preserved in the order of this stack
+     * after the method call. Furthermore, the provided stack must still contain
+     * its original contents in their original order after the method is
+     * complete. If the provided stack is null, no changes should occur.
+     *
+     * @param other Stack whose contents are to be merged onto the bottom of
+     *              this stack.
+     */
+    @Override
+    public void merge(Stack<Integer> other) {
+        if(other == null)
+            return;
+
+        IntCircularArrayList buffer = new IntCircularArrayList(other.size());
+
+        while(other.size() > 0)
+            buffer.addFirst(other.pop());
+
+        while(buffer.size() > 0) {
+            int bufferValue = buffer.removeFirst();
+            data.addFirst(bufferValue);
+            other.push(bufferValue);
+        }
+    }
+
+    /**
+     * @return An iterator over the elements of the stack from the top down,
+     * without removing them. It fails fast if the stack is changed while in
+     * use.
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return data.iterator();
+    }
+
+    /**
+     * @return A spliterator over the elements of the stack from the top down,
+     * which knows its exact size and splits evenly.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return data.spliterator();
+    }
+
+    /**
+     * Prints the contents of the stack starting at top, one item per line. Note
+     * this method should not empty the contents of the stack.
+     */
+    @Override
+    public void printStack() {
+        data.printList();
+    }
+}
@@ -0,0 +1,307 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/***
+ * The primitive int counterpart of CircularArrayList. Values are kept in an
+ * int[] ring whose capacity is always a power of two, so nothing is boxed and
+ * nothing is allocated per element. Because there's no null to hand back,
+ * reading from an empty list throws instead.
+ *
+ * @author Brigham Campbell
+ */
+public class IntCircularArrayList implements Iterable<Integer> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private int[] elements;
+    private int head;
+    private int numberOfElements;
+    // bumped by every change to the contents, so iterators can fail fast
+    private int modCount;
+
+    /**
+     * Constructs an empty list with the default capacity.
+     */
+    public IntCircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list able to hold at least the given number of
+     * values before it has to grow.
+     *
+     * @param initialCapacity Number of values to reserve space for. Rounded up
+     *                        to the next power of two.
+     */
+    public IntCircularArrayList(int initialCapacity) {
+        elements = new int[capacityFor(initialCapacity)];
+    }
+
+    private static int capacityFor(int requested) {
+        if(requested <= 1)
+            return 1;
+        if(requested >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+        return Integer.highestOneBit(requested - 1) << 1;
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    private void ensureSpaceForOneMore() {
+        if(numberOfElements < elements.length)
+            return;
+        if(elements.length == MAXIMUM_CAPACITY)
+            throw new IllegalStateException("IntCircularArrayList is at maximum capacity");
+
+        int[] grown = new int[elements.length << 1];
+        int firstRun = Math.min(numberOfElements, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstRun);
+        System.arraycopy(elements, 0, grown, firstRun, numberOfElements - firstRun);
+        elements = grown;
+        head = 0;
+    }
+
+    private void checkNotEmpty() {
+        if(numberOfElements == 0)
+            throw new NoSuchElementException();
+    }
+
+    /**
+     * @return first value in the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public int first() {
+        checkNotEmpty();
+        return elements[head];
+    }
+
+    /**
+     * @return last value in the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public int last() {
+        checkNotEmpty();
+        return elements[slot(numberOfElements - 1)];
+    }
+
+    /**
+     * Adds the provided value to the end of the list.
+     *
+     * @param value Value to be added to the end of the list.
+     */
+    public void addLast(int value) {
+        ensureSpaceForOneMore();
+        elements[slot(numberOfElements)] = value;
+        numberOfElements++;
+        modCount++;
+    }
+
+    /**
+     * Adds the provided value to the front of the list.
+     *
+     * @param value Value to be added to the front of the list.
+     */
+    public void addFirst(int value) {
+        ensureSpaceForOneMore();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        numberOfElements++;
+        modCount++;
+    }
+
+    /**
+     * Removes the value at the front of the list.
+     *
+     * @return Value at the front of the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public int removeFirst() {
+        checkNotEmpty();
+        int retval = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        numberOfElements--;
+        modCount++;
+        return retval;
+    }
+
+    /**
+     * Removes the value at the end of the list.
+     *
+     * @return Value at the end of the list.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public int removeLast() {
+        checkNotEmpty();
+        numberOfElements--;
+        modCount++;
+        return elements[slot(numberOfElements)];
+    }
+
+    /**
+     * Retrieves the value at the specified index.
+     *
+     * @param index Index of the value to be retrieved.
+     * @return Value at the given index.
+     * @throws IndexOutOfBoundsException if the index is less than 0 or greater
+     * than or equal to the list size.
+     */
+    public int get(int index) {
+        if(index < 0 || index >= numberOfElements)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + numberOfElements);
+        return elements[slot(index)];
+    }
+
+    /**
+     * Reverses the order of the values in place.
+     */
+    public void reverse() {
+        for(int i = 0, j = numberOfElements - 1; i < j; i++, j--) {
+            int a = slot(i);
+            int b = slot(j);
+            int tmp = elements[a];
+            elements[a] = elements[b];
+            elements[b] = tmp;
+        }
+        modCount++;
+    }
+
+    /**
+     * @return The current size of the list.
+     */
+    public int size() {
+        return numberOfElements;
+    }
+
+    /**
+     * @return true if there are no values currently stored in the list, false
+     * otherwise.
+     */
+    public boolean isEmpty() {
+        return numberOfElements == 0;
+    }
+
+    /**
+     * Prints the contents of the list, one value per line, to the default
+     * System.out
+     */
+    public void printList() {
+        for(int i = 0; i < numberOfElements; i++) {
+            System.out.println(elements[slot(i)]);
+        }
+    }
+
+    /**
+     * @return An iterator over the values from first to last, which hands
+     * them out unboxed through nextInt. It fails fast, throwing
+     * ConcurrentModificationException if the list is changed while it is in
+     * use.
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * @return A spliterator over the values from first to last, which binds to
+     * the list when first used, fails fast like the iterator, and splits by
+     * halving its range of indices.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IndexSpliterator(0, -1, 0);
+    }
+
+    private class Itr implements PrimitiveIterator.OfInt {
+        private int next;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < numberOfElements;
+        }
+
+        @Override
+        public int nextInt() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if(next >= numberOfElements)
+                throw new NoSuchElementException();
+            return elements[slot(next++)];
+        }
+    }
+
+    private class IndexSpliterator implements Spliterator.OfInt {
+        private int index;
+        private int fence; // -1 until first used
+        private int expectedModCount;
+
+        IndexSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if(fence < 0) {
+                expectedModCount = modCount;
+                fence = numberOfElements;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int lo = index;
+            int mid = (lo + getFence()) >>> 1;
+            if(lo >= mid)
+                return null;
+            index = mid;
+            return new IndexSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(action == null)
+                throw new NullPointerException();
+            if(index >= getFence())
+                return false;
+            int value = elements[slot(index++)];
+            action.accept(value);
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            if(action == null)
+                throw new NullPointerException();
+            int hi = getFence();
+            int[] a = elements;
+            int mask = a.length - 1;
+            for(int i = index; i < hi; i++)
+                action.accept(a[(head + i) & mask]);
+            index = hi;
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
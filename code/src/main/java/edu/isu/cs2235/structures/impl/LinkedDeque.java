@@ -2,10 +2,14 @@ package edu.isu.cs2235.structures.impl;
 
 import edu.isu.cs2235.structures.Deque;
 import edu.isu.cs2235.structures.Queue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class LinkedDeque<E> implements Deque<E> {
 
-    private DoublyLinkedList<E> data = new DoublyLinkedList<E>();
+    DoublyLinkedList<E> data = new DoublyLinkedList<E>();
 
     /**
      * @return The value of the last element of the deque (without removing it),
@@ -81,6 +85,60 @@ public class LinkedDeque<E> implements Deque<E> {
         return data.removeFirst();
     }
 
+    /**
+     * Inserts all of the given elements at the end of the queue, in order.
+     * Null elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(E[] elements) {
+        data.addAllLast(Arrays.asList(elements));
+    }
+
+    /**
+     * Inserts all of the given elements at the end of the queue, in order.
+     * Null elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(Iterable<? extends E> elements) {
+        data.addAllLast(elements);
+    }
+
+    /**
+     * Removes up to n elements from the front of the queue and hands each one,
+     * in order, to the consumer. The consumer must not change this queue.
+     *
+     * @param n        Most elements to remove.
+     * @param consumer Receives each removed element.
+     * @return The number of elements removed, 0 if the queue was empty.
+     */
+    @Override
+    public int pollN(int n, Consumer<? super E> consumer) {
+        return data.removeFirst(n, consumer);
+    }
+
+    /**
+     * @return An iterator over the elements of the deque in the order they
+     * would be polled, without removing them. It fails fast if the deque is
+     * changed while in use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return data.iterator();
+    }
+
+    /**
+     * @return A spliterator over the elements of the deque in the order they
+     * would be polled, which knows its exact size and splits evenly.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return data.spliterator();
+    }
+
     /**
      * Prints the contents of the queue starting at top, one item per line. Note
      * this method should not empty the contents of the queue.
@@ -107,6 +165,12 @@ public class LinkedDeque<E> implements Deque<E> {
 
         this.reverse();
 
+        DoublyLinkedList<E> target = LinkedQueue.linkedData(into);
+        if(target != null && target != data) {
+            target.spliceLast(data);
+            return;
+        }
+
         while(this.size() > 0)
             into.offer(this.poll());
     }
@@ -116,8 +180,7 @@ public class LinkedDeque<E> implements Deque<E> {
      */
     @Override
     public void reverse() {
-        for(int i = this.size() - 1; i >= 0; i--)
-            data.insert(this.poll(), i);
+        data.reverse();
     }
 
     /**
@@ -135,16 +198,18 @@ public class LinkedDeque<E> implements Deque<E> {
         if(from == null)
             return;
 
-        LinkedQueue<E> bufferQueue = new LinkedQueue<E>();
-        E bufferObj = null;
+        DoublyLinkedList<E> source = LinkedQueue.linkedData(from);
+        if(source != null) {
+            // copied straight off the other list's nodes, leaving it untouched
+            data.copyLast(source);
+            return;
+        }
 
-        while(from.size() > 0) {
-            bufferObj = from.poll();
+        // rotate the other queue through once, so no buffer queue is needed
+        for(int i = from.size(); i > 0; i--) {
+            E bufferObj = from.poll();
             this.offer(bufferObj);
-            bufferQueue.offer(bufferObj);
+            from.offer(bufferObj);
         }
-
-        while(bufferQueue.size() > 0)
-            from.offer(bufferQueue.poll());
     }
 }
@@ -1,10 +1,14 @@
 package edu.isu.cs2235.structures.impl;
 
 import edu.isu.cs2235.structures.Queue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class LinkedQueue<E> implements Queue<E> {
 
-    private DoublyLinkedList<E> data = new DoublyLinkedList<E>();
+    DoublyLinkedList<E> data = new DoublyLinkedList<E>();
 
     public LinkedQueue(LinkedQueue<E> copySource) {
         this.data = copySource.data;
@@ -12,6 +16,28 @@ public class LinkedQueue<E> implements Queue<E> {
 
     public LinkedQueue() {}
 
+    /**
+     * Constructs an empty queue that keeps up to the given number of polled
+     * nodes for reuse, so steady offer and poll traffic stops allocating once
+     * the queue has warmed up.
+     *
+     * @param nodePoolCapacity most polled nodes to keep, 0 to keep none
+     */
+    public LinkedQueue(int nodePoolCapacity) {
+        this.data = new DoublyLinkedList<E>(nodePoolCapacity);
+    }
+
+    // The list behind a linked queue or deque, so elements can be relinked
+    // between them instead of copied one at a time. Null for anything else.
+    @SuppressWarnings("unchecked")
+    static <E> DoublyLinkedList<E> linkedData(Queue<E> queue) {
+        if(queue instanceof LinkedQueue)
+            return ((LinkedQueue<E>) queue).data;
+        if(queue instanceof LinkedDeque)
+            return ((LinkedDeque<E>) queue).data;
+        return null;
+    }
+
     /**
      * @return The number of elements in the queue
      */
@@ -56,6 +82,60 @@ public class LinkedQueue<E> implements Queue<E> {
         return data.removeFirst();
     }
 
+    /**
+     * Inserts all of the given elements at the end of the queue, in order.
+     * Null elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(E[] elements) {
+        data.addAllLast(Arrays.asList(elements));
+    }
+
+    /**
+     * Inserts all of the given elements at the end of the queue, in order.
+     * Null elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(Iterable<? extends E> elements) {
+        data.addAllLast(elements);
+    }
+
+    /**
+     * Removes up to n elements from the front of the queue and hands each one,
+     * in order, to the consumer. The consumer must not change this queue.
+     *
+     * @param n        Most elements to remove.
+     * @param consumer Receives each removed element.
+     * @return The number of elements removed, 0 if the queue was empty.
+     */
+    @Override
+    public int pollN(int n, Consumer<? super E> consumer) {
+        return data.removeFirst(n, consumer);
+    }
+
+    /**
+     * @return An iterator over the elements of the queue in the order they
+     * would be polled, without removing them. It fails fast if the queue is
+     * changed while in use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return data.iterator();
+    }
+
+    /**
+     * @return A spliterator over the elements of the queue in the order they
+     * would be polled, which knows its exact size and splits evenly.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return data.spliterator();
+    }
+
     /**
      * Prints the contents of the queue starting at top, one item per line. Note
      * this method should not empty the contents of the queue.
@@ -76,10 +156,18 @@ public class LinkedQueue<E> implements Queue<E> {
      *             is null.
      */
     @Override
-    public void transfer(Queue into) {
+    public void transfer(Queue<E> into) {
         if(into == null)
             return;
 
+        DoublyLinkedList<E> target = linkedData(into);
+        if(target != null && target != data) {
+            // reversed in place, then the whole chain is relinked onto the end
+            data.reverse();
+            target.spliceLast(data);
+            return;
+        }
+
         while(this.size() > 0)
             into.offer(data.removeLast());
     }
@@ -89,8 +177,7 @@ public class LinkedQueue<E> implements Queue<E> {
      */
     @Override
     public void reverse() {
-        for(int i = this.size() - 1; i >= 0; i--)
-            data.insert(this.poll(), i);
+        data.reverse();
     }
 
     /**
@@ -108,16 +195,18 @@ public class LinkedQueue<E> implements Queue<E> {
         if(from == null)
             return;
 
-        LinkedQueue<E> bufferQueue = new LinkedQueue<>();
-        E bufferObj = null;
+        DoublyLinkedList<E> source = linkedData(from);
+        if(source != null) {
+            // copied straight off the other list's nodes, leaving it untouched
+            data.copyLast(source);
+            return;
+        }
 
-        while(from.size() > 0) {
-            bufferObj = from.poll();
+        // rotate the other queue through once, so no buffer queue is needed
+        for(int i = from.size(); i > 0; i--) {
+            E bufferObj = from.poll();
             this.offer(bufferObj);
-            bufferQueue.offer(bufferObj);
+            from.offer(bufferObj);
         }
-
-        while(bufferQueue.size() > 0)
-            from.offer(bufferQueue.poll());
     }
 }
@@ -1,10 +1,14 @@
 package edu.isu.cs2235.structures.impl;
 
 import edu.isu.cs2235.structures.Stack;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class LinkedStack<E> implements Stack<E> {
 
-    private DoublyLinkedList<E> data = new DoublyLinkedList<E>();
+    DoublyLinkedList<E> data = new DoublyLinkedList<E>();
 
     /**
      * Adds the provided item to the top of the stack. Note that if the item is
@@ -75,6 +79,13 @@ public class LinkedStack<E> implements Stack<E> {
         if(to == null)
             return;
 
+        if(to instanceof LinkedStack && ((LinkedStack<E>) to).data != data) {
+            // reversed in place, then the whole chain is relinked onto the top
+            data.reverse();
+            ((LinkedStack<E>) to).data.spliceFirst(data);
+            return;
+        }
+
         while(this.size() > 0)
             to.push(this.pop());
     }
@@ -84,8 +95,7 @@ public class LinkedStack<E> implements Stack<E> {
      */
     @Override
     public void reverse() {
-        for(int i = this.size() - 1; i >= 0; i--)
-            data.insert(this.pop(), i);
+        data.reverse();
     }
 
 
@@ -104,6 +114,16 @@ public class LinkedStack<E> implements Stack<E> {
         if(other == null)
             return;
 
+        if(other instanceof LinkedStack) {
+            // copied straight off the other list's nodes, leaving it untouched,
+            // then relinked on top in one go, the same order pushing them
+            // bottom first would give
+            DoublyLinkedList<E> copy = new DoublyLinkedList<E>();
+            copy.copyLast(((LinkedStack<E>) other).data);
+            data.spliceFirst(copy);
+            return;
+        }
+
         LinkedStack<E> bufferStack = new LinkedStack<E>();
         E bufferObj = null;
 
@@ -117,6 +137,60 @@ public class LinkedStack<E> implements Stack<E> {
         }
     }
 
+    /**
+     * Pushes each of the given elements in order, so the last of them ends up
+     * on top. Null elements are skipped.
+     *
+     * @param elements Elements to be pushed.
+     */
+    @Override
+    public void pushAll(E[] elements) {
+        data.addAllFirst(Arrays.asList(elements));
+    }
+
+    /**
+     * Pushes each of the given elements in order, so the last of them ends up
+     * on top. Null elements are skipped.
+     *
+     * @param elements Elements to be pushed.
+     */
+    @Override
+    public void pushAll(Iterable<? extends E> elements) {
+        data.addAllFirst(elements);
+    }
+
+    /**
+     * Pops up to n elements off the stack and hands each one, top first, to
+     * the consumer. The consumer must not change this stack.
+     *
+     * @param n        Most elements to pop.
+     * @param consumer Receives each popped element.
+     * @return The number of elements popped, 0 if the stack was empty.
+     */
+    @Override
+    public int popN(int n, Consumer<? super E> consumer) {
+        return data.removeFirst(n, consumer);
+    }
+
+    /**
+     * @return An iterator over the elements of the stack from the top down,
+     * without removing them. It fails fast if the stack is changed while in
+     * use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return data.iterator();
+    }
+
+    /**
+     * @return A spliterator over the elements of the stack from the top down,
+     * which knows its exact size and splits evenly.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return data.spliterator();
+    }
+
     /**
      * Prints the contents of the stack starting at top, one item per line. Note
      * this method should not empty the contents of the stack.
@@ -0,0 +1,388 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Queue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/***
+ * An unbounded thread-safe Queue for any number of producers and consumers,
+ * using the non-blocking algorithm from Michael and Scott, "Simple, Fast, and
+ * Practical Non-Blocking and Blocking Concurrent Queue Algorithms" (1996).
+ * The list always starts with a dummy node; offer links a node after the last
+ * one with a compare-and-set and poll swings head on to the next node, so a
+ * thread stalled mid-operation never blocks the others, and any thread that
+ * finds tail lagging behind helps move it along.
+ *
+ * offer, poll, peek and isEmpty are lock-free and linearizable. Every node
+ * carries its position in the queue, so size is O(1): it is exact when no
+ * other thread is changing the queue and otherwise may miss the operations in
+ * flight. transfer, reverse and merge move elements one at a time and are not
+ * atomic; elements offered or polled by other threads during one of them may
+ * be interleaved with it.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the queue
+ */
+public class LockFreeQueue<E> implements Queue<E> {
+
+    private static class Node<E> {
+        private volatile E element;
+        private volatile Node<E> next;
+        // number of nodes offered before this one, fixed before it is linked
+        private long position;
+
+        Node(E element) {
+            this.element = element;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        boolean casNext(Node<E> expected, Node<E> update) {
+            return NEXT.compareAndSet(this, expected, update);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeQueue, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeQueue.class, Node.class, "head");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeQueue.class, Node.class, "tail");
+
+    // head is always the dummy node, its next is the first element
+    private volatile Node<E> head;
+    private volatile Node<E> tail;
+
+    /**
+     * Constructs an empty queue.
+     */
+    public LockFreeQueue() {
+        Node<E> dummy = new Node<E>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    private boolean casHead(Node<E> expected, Node<E> update) {
+        return HEAD.compareAndSet(this, expected, update);
+    }
+
+    private void casTail(Node<E> expected, Node<E> update) {
+        TAIL.compareAndSet(this, expected, update);
+    }
+
+    /**
+     * @return The number of elements in the queue. Exact when the queue isn't
+     * being changed concurrently, otherwise approximate but never more than
+     * the number of elements in the queue when the call started.
+     */
+    @Override
+    public int size() {
+        Node<E> last = tail;
+        // tail may lag behind the last node by a step or two
+        for(Node<E> next = last.next; next != null; next = next.next)
+            last = next;
+        // read after the end, so polls in between can only make this smaller
+        long size = last.position - head.position;
+        if(size <= 0)
+            return 0; // head overtook the end we read
+        return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+    }
+
+    /**
+     * @return tests whether the queue is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Inserts an element at the end of the queue, unless it is null.
+     *
+     * @param element Element to be inserted.
+     */
+    @Override
+    public void offer(E element) {
+        if(element == null)
+            return;
+
+        Node<E> node = new Node<E>(element);
+        while(true) {
+            Node<E> t = tail;
+            Node<E> next = t.next;
+            if(t != tail)
+                continue;
+            if(next == null) {
+                node.position = t.position + 1;
+                if(t.casNext(null, node)) {
+                    // fine if this fails, someone else already moved it on
+                    casTail(t, node);
+                    return;
+                }
+            } else {
+                // tail is lagging, help it along before trying again
+                casTail(t, next);
+            }
+        }
+    }
+
+    /**
+     * Inserts all of the given elements at the end of the queue, in order,
+     * skipping any that are null. The elements are chained together first and
+     * linked on with a single compare-and-set, so no other thread's offer can
+     * land in the middle of them.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(E[] elements) {
+        offerAll(Arrays.asList(elements));
+    }
+
+    /**
+     * Inserts all of the given elements at the end of the queue, in order,
+     * skipping any that are null. The elements are chained together first and
+     * linked on with a single compare-and-set, so no other thread's offer can
+     * land in the middle of them.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(Iterable<? extends E> elements) {
+        Node<E> chainFirst = null;
+        Node<E> chainLast = null;
+        for(E element : elements) {
+            if(element == null)
+                continue;
+            Node<E> node = new Node<E>(element);
+            if(chainLast == null)
+                chainFirst = node;
+            else
+                chainLast.next = node;
+            chainLast = node;
+        }
+        if(chainFirst == null)
+            return;
+
+        while(true) {
+            Node<E> t = tail;
+            Node<E> next = t.next;
+            if(t != tail)
+                continue;
+            if(next == null) {
+                // positions depend on where the chain lands, so set them per attempt
+                long position = t.position;
+                for(Node<E> node = chainFirst; node != null; node = node.next)
+                    node.position = ++position;
+                if(t.casNext(null, chainFirst)) {
+                    casTail(t, chainLast);
+                    return;
+                }
+            } else {
+                casTail(t, next);
+            }
+        }
+    }
+
+    /**
+     * @return The value first element of the queue (with out removing it), or
+     * null if empty.
+     */
+    @Override
+    public E peek() {
+        while(true) {
+            Node<E> h = head;
+            Node<E> first = h.next;
+            if(first == null)
+                return null;
+            E element = first.element;
+            // an unchanged head means first hadn't been polled, so its element
+            // hadn't been cleared yet
+            if(h == head)
+                return element;
+        }
+    }
+
+    /**
+     * @return The value of the first element of the queue (and removes it), or
+     * null if empty.
+     */
+    @Override
+    public E poll() {
+        while(true) {
+            Node<E> h = head;
+            Node<E> t = tail;
+            Node<E> first = h.next;
+            if(h != head)
+                continue;
+            if(first == null)
+                return null;
+            if(h == t) {
+                // never let head pass tail
+                casTail(t, first);
+                continue;
+            }
+            E element = first.element;
+            if(casHead(h, first)) {
+                // first is the new dummy, don't hang on to its element
+                first.element = null;
+                return element;
+            }
+        }
+    }
+
+    /**
+     * @return A weakly consistent iterator over the elements of the queue in
+     * the order they would be polled. It never throws
+     * ConcurrentModificationException, returns every element that stays in the
+     * queue until the iterator reaches it, and may or may not return elements
+     * offered or polled after it was created.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * @return A weakly consistent spliterator over the elements of the queue in
+     * the order they would be polled. Its size can't be known ahead of time,
+     * so it splits by copying off batches of elements.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    private class Itr implements Iterator<E> {
+        private Node<E> node;
+        private E nextElement;
+
+        Itr() {
+            node = head;
+            advance();
+        }
+
+        // Moves on to the next node still holding an element, skipping any
+        // polled since the iterator got there
+        private void advance() {
+            nextElement = null;
+            while(nextElement == null && node != null) {
+                node = node.next;
+                if(node != null)
+                    nextElement = node.element;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextElement != null;
+        }
+
+        @Override
+        public E next() {
+            E element = nextElement;
+            if(element == null)
+                throw new NoSuchElementException();
+            advance();
+            return element;
+        }
+    }
+
+    /**
+     * Prints the contents of the queue starting at top, one item per line. Note
+     * this method should not empty the contents of the queue.
+     */
+    @Override
+    public void printQueue() {
+        for(Node<E> node = head.next; node != null; node = node.next) {
+            E element = node.element;
+            if(element != null)
+                System.out.println(element);
+        }
+    }
+
+    /**
+     * Tranfers the contents of this queue into the provided queue. The contents
+     * of this queue are to found in reverse order at the top of the provided
+     * queue. This queue should be empty once the transfer is completed. Note
+     * that if the provided queue is null, nothing is to happen.
+     *
+     * @param into The new queue onto which the reversed order of contents from
+     *             this queue are to be transferred to the top of, unless the provided queue
+     *             is null.
+     */
+    @Override
+    public void transfer(Queue<E> into) {
+        if(into == null)
+            return;
+
+        CircularArrayList<E> buffer = drain();
+        while(!buffer.isEmpty())
+            into.offer(buffer.removeLast());
+    }
+
+    /**
+     * Reverses the contents of this queue.
+     */
+    @Override
+    public void reverse() {
+        CircularArrayList<E> buffer = drain();
+        while(!buffer.isEmpty())
+            offer(buffer.removeLast());
+    }
+
+    /**
+     * Merges the contents of the provided queue onto the bottom of this queue.
+     * The order of both queues must be preserved in the order of this queue
+     * after the method call. Furthermore, the provided queue must still contain
+     * its original contents in their original order after the method is
+     * complete. If the provided queue is null, no changes should occur.
+     *
+     * @param from Queue whose contents are to be merged onto the bottom of
+     *             this queue.
+     */
+    @Override
+    public void merge(Queue<E> from) {
+        if(from == null)
+            return;
+
+        if(from instanceof LockFreeQueue) {
+            // read straight off the other queue's nodes without polling it,
+            // stopping at the end it had when we started so merging into
+            // itself ends
+            LockFreeQueue<E> other = (LockFreeQueue<E>) from;
+            Node<E> node = other.head;
+            Node<E> end = other.tail;
+            while(end.next != null)
+                end = end.next;
+            while(node != end) {
+                node = node.next;
+                offer(node.element);
+            }
+            return;
+        }
+
+        // rotate the other queue through once, so no buffer queue is needed
+        for(int i = from.size(); i > 0; i--) {
+            E bufferObj = from.poll();
+            this.offer(bufferObj);
+            from.offer(bufferObj);
+        }
+    }
+
+    // Polls everything currently in the queue into a list, oldest first
+    private CircularArrayList<E> drain() {
+        CircularArrayList<E> buffer = new CircularArrayList<>();
+        E element;
+        while((element = poll()) != null)
+            buffer.addLast(element);
+        return buffer;
+    }
+}
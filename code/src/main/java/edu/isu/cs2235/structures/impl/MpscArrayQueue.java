@@ -0,0 +1,119 @@
+package edu.isu.cs2235.structures.impl;
+
+/***
+ * A bounded queue for handing elements from any number of producer threads
+ * to exactly one consumer thread. Producers claim slots by moving tail along
+ * with a compare-and-set and then write their element into the claimed slot;
+ * the consumer treats a claimed slot that is still empty as not yet
+ * published and waits the few instructions it takes to fill. A batch offer
+ * claims all of its slots with a single compare-and-set.
+ *
+ * Producers share a padded copy of head and only read the consumer's counter
+ * when that copy says the queue is full.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the queue
+ */
+public class MpscArrayQueue<E> extends RingBufferQueue<E> {
+
+    // the producers' last look at head, never ahead of the real one
+    private final PaddedCounter headCache = new PaddedCounter();
+
+    /**
+     * Constructs an empty queue that yields while waiting.
+     *
+     * @param capacity most elements the queue can hold, rounded up to a power
+     *                 of two
+     */
+    public MpscArrayQueue(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param capacity     most elements the queue can hold, rounded up to a
+     *                     power of two
+     * @param waitStrategy how offer and take wait on a full or empty queue
+     */
+    public MpscArrayQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    // Room left past the given tail, only reading head when the cache says full
+    private long freeSlots(long t) {
+        long free = capacity - (t - headCache.get());
+        if(free <= 0) {
+            long h = head.get();
+            // racing producers may store an older head, which is only cautious
+            headCache.lazySet(h);
+            free = capacity - (t - h);
+        }
+        return free;
+    }
+
+    /**
+     * Inserts an element at the end of the queue if there is room for it.
+     * Null elements are ignored and count as inserted.
+     *
+     * @param element Element to be inserted.
+     * @return true if the element was inserted, false if the queue was full.
+     */
+    @Override
+    public boolean tryOffer(E element) {
+        if(element == null)
+            return true;
+
+        while(true) {
+            long t = tail.get();
+            if(freeSlots(t) <= 0)
+                return false;
+            if(tail.compareAndSet(t, t + 1)) {
+                slots.lazySet(index(t), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Inserts as many of the given elements, in order, as there is room for,
+     * publishing them together. Null elements are skipped.
+     *
+     * @param elements array holding the elements to insert
+     * @param offset   index of the first element to insert
+     * @param length   number of elements to insert
+     * @return The number of array entries used up, nulls included, which is
+     * less than length only if the queue filled up.
+     */
+    @Override
+    public int tryOfferAll(E[] elements, int offset, int length) {
+        int wanted = 0;
+        for(int i = 0; i < length; i++) {
+            if(elements[offset + i] != null)
+                wanted++;
+        }
+        if(wanted == 0)
+            return length;
+
+        long t;
+        int claimed;
+        do {
+            t = tail.get();
+            claimed = (int) Math.min(wanted, freeSlots(t));
+            if(claimed <= 0)
+                return 0;
+        } while(!tail.compareAndSet(t, t + claimed));
+
+        int written = 0;
+        int used = 0;
+        for(; written < claimed; used++) {
+            E element = elements[offset + used];
+            if(element != null)
+                slots.lazySet(index(t + written++), element);
+        }
+        // skip any nulls trailing the last element that made it in
+        while(used < length && elements[offset + used] == null)
+            used++;
+        return used;
+    }
+}
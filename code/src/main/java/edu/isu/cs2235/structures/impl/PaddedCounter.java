@@ -0,0 +1,58 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+// The padding is spread over a class hierarchy because the JVM may reorder
+// the fields within a single class but lays out a superclass's fields before
+// a subclass's.
+abstract class PaddedCounterLeftPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class PaddedCounterValue extends PaddedCounterLeftPadding {
+    volatile long value;
+}
+
+abstract class PaddedCounterRightPadding extends PaddedCounterValue {
+    long p11, p12, p13, p14, p15, p16, p17;
+}
+
+/***
+ * A volatile long padded out to its own cache line, so that a producer's and
+ * a consumer's counters never share one and writing one doesn't evict the
+ * other from the other thread's cache.
+ *
+ * @author Brigham Campbell
+ */
+final class PaddedCounter extends PaddedCounterRightPadding {
+
+    private static final AtomicLongFieldUpdater<PaddedCounterValue> VALUE =
+            AtomicLongFieldUpdater.newUpdater(PaddedCounterValue.class, "value");
+
+    /**
+     * @return The current value, with a volatile read.
+     */
+    long get() {
+        return value;
+    }
+
+    /**
+     * Sets the value with release semantics only: writes before it are seen by
+     * any thread that reads the new value, but it may take a moment to become
+     * visible. Cheaper than a volatile write when only one thread writes.
+     *
+     * @param update the new value
+     */
+    void lazySet(long update) {
+        VALUE.lazySet(this, update);
+    }
+
+    /**
+     * @param expected the value the counter must hold
+     * @param update   the value to replace it with
+     * @return true if the counter held the expected value and was updated
+     */
+    boolean compareAndSet(long expected, long update) {
+        return VALUE.compareAndSet(this, expected, update);
+    }
+}
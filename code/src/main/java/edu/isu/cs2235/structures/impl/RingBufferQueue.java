@@ -0,0 +1,383 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Queue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/***
+ * The common part of the bounded ring buffer queues used to hand elements
+ * from producer threads to a single consumer thread. Elements live in a fixed
+ * power of two sized array indexed by two ever increasing counters, head (the
+ * next slot to poll, written only by the consumer) and tail (the next slot to
+ * offer into), each padded onto its own cache line. Nothing is allocated per
+ * element and neither side ever takes a lock.
+ *
+ * poll, peek, take, pollN, drainTo, iterator and spliterator must only be
+ * called from the consumer thread. offer waits, using the queue's
+ * WaitStrategy, while the queue is full; use tryOffer to give up instead. size
+ * is a snapshot and may be stale by the time it returns. transfer, reverse,
+ * merge and printQueue touch both ends, so they must only be used while no
+ * other thread is using the queue.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the queue
+ */
+public abstract class RingBufferQueue<E> implements Queue<E> {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    final AtomicReferenceArray<E> slots;
+    final int capacity;
+    private final int mask;
+    final WaitStrategy waitStrategy;
+
+    final PaddedCounter head = new PaddedCounter();
+    final PaddedCounter tail = new PaddedCounter();
+
+    RingBufferQueue(int capacity, WaitStrategy waitStrategy) {
+        if(capacity < 1)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        if(waitStrategy == null)
+            throw new IllegalArgumentException("A wait strategy is required");
+        this.capacity = capacityFor(capacity);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.waitStrategy = waitStrategy;
+    }
+
+    // Rounds the requested capacity up to a power of two so that wrapping a
+    // counter onto a slot is a single mask
+    private static int capacityFor(int requested) {
+        if(requested <= 1)
+            return 1;
+        if(requested >= MAXIMUM_CAPACITY)
+            return MAXIMUM_CAPACITY;
+        return Integer.highestOneBit(requested - 1) << 1;
+    }
+
+    // Maps a counter value onto its slot in the array
+    final int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    /**
+     * Inserts an element at the end of the queue if there is room for it.
+     * Null elements are ignored and count as inserted.
+     *
+     * @param element Element to be inserted.
+     * @return true if the element was inserted, false if the queue was full.
+     */
+    public abstract boolean tryOffer(E element);
+
+    /**
+     * Inserts as many of the given elements, in order, as there is room for,
+     * publishing them together. Null elements are skipped.
+     *
+     * @param elements array holding the elements to insert
+     * @param offset   index of the first element to insert
+     * @param length   number of elements to insert
+     * @return The number of array entries used up, nulls included, which is
+     * less than length only if the queue filled up.
+     */
+    public abstract int tryOfferAll(E[] elements, int offset, int length);
+
+    /**
+     * @return The most elements the queue can hold, the requested capacity
+     * rounded up to a power of two.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of elements in the queue, which may include elements
+     * still being offered by another thread.
+     */
+    @Override
+    public int size() {
+        long h = head.get();
+        long size = tail.get() - h;
+        return size > capacity ? capacity : (int) size;
+    }
+
+    /**
+     * @return tests whether the queue is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    /**
+     * Inserts an element at the end of the queue, waiting for room if the
+     * queue is full. Null elements are ignored.
+     *
+     * @param element Element to be inserted.
+     */
+    @Override
+    public void offer(E element) {
+        for(int attempt = 0; !tryOffer(element); attempt++)
+            waitStrategy.idle(attempt);
+    }
+
+    /**
+     * Inserts all of the given elements in order, publishing as many at a time
+     * as there is room for and waiting whenever the queue is full. Null
+     * elements are skipped.
+     *
+     * @param elements Elements to be inserted.
+     */
+    @Override
+    public void offerAll(E[] elements) {
+        int offered = 0;
+        int attempt = 0;
+        while(offered < elements.length) {
+            int batch = tryOfferAll(elements, offered, elements.length - offered);
+            if(batch == 0) {
+                waitStrategy.idle(attempt++);
+            } else {
+                offered += batch;
+                attempt = 0;
+            }
+        }
+    }
+
+    /**
+     * @return The value first element of the queue (with out removing it), or
+     * null if empty.
+     */
+    @Override
+    public E peek() {
+        long h = head.get();
+        if(h == tail.get())
+            return null;
+        return awaitSlot(h);
+    }
+
+    /**
+     * @return The value of the first element of the queue (and removes it), or
+     * null if empty.
+     */
+    @Override
+    public E poll() {
+        long h = head.get();
+        if(h == tail.get())
+            return null;
+        E element = awaitSlot(h);
+        slots.lazySet(index(h), null);
+        head.lazySet(h + 1);
+        return element;
+    }
+
+    /**
+     * Removes the first element of the queue, waiting for one to arrive if the
+     * queue is empty.
+     *
+     * @return The value of the first element of the queue.
+     */
+    public E take() {
+        E element;
+        for(int attempt = 0; (element = poll()) == null; attempt++)
+            waitStrategy.idle(attempt);
+        return element;
+    }
+
+    /**
+     * Removes up to n elements from the front of the queue and hands each one,
+     * in order, to the consumer. The slots are handed back to the producers all
+     * at once, so the consumer must not change this queue.
+     *
+     * @param n        Most elements to remove.
+     * @param consumer Receives each removed element.
+     * @return The number of elements removed, 0 if the queue was empty.
+     */
+    @Override
+    public int pollN(int n, Consumer<? super E> consumer) {
+        long h = head.get();
+        long available = tail.get() - h;
+        int count = (int) Math.min(available, Math.max(n, 0));
+        for(int i = 0; i < count; i++) {
+            consumer.accept(awaitSlot(h + i));
+            slots.lazySet(index(h + i), null);
+        }
+        if(count > 0)
+            head.lazySet(h + count);
+        return count;
+    }
+
+    // A slot below tail may have been claimed by a producer that hasn't
+    // written its element yet; the wait is only ever a few instructions long
+    private E awaitSlot(long sequence) {
+        int index = index(sequence);
+        E element;
+        for(int attempt = 0; (element = slots.get(index)) == null; attempt++)
+            waitStrategy.idle(attempt);
+        return element;
+    }
+
+    /**
+     * @return An iterator over the elements of the queue in the order they
+     * would be polled. Consumer only. It is weakly consistent: elements offered
+     * while it is in use may or may not be returned, and it skips past any the
+     * consumer polls in the meantime.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private long next = head.get();
+
+            @Override
+            public boolean hasNext() {
+                next = Math.max(next, head.get());
+                return next < tail.get();
+            }
+
+            @Override
+            public E next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                return awaitSlot(next++);
+            }
+        };
+    }
+
+    /**
+     * @return A spliterator over the elements in the queue when it is created,
+     * in the order they would be polled. It may be traversed from any thread,
+     * but the queue must not be polled until it is finished with. Slots can't
+     * be reused before they are polled, so the range is stable: it knows its
+     * exact size and splits evenly.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new RangeSpliterator(head.get(), tail.get());
+    }
+
+    private class RangeSpliterator implements Spliterator<E> {
+        private long index;
+        private final long fence;
+
+        RangeSpliterator(long origin, long fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            long lo = index;
+            long mid = lo + ((fence - lo) >>> 1);
+            if(lo >= mid)
+                return null;
+            index = mid;
+            return new RangeSpliterator(lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            if(index >= fence)
+                return false;
+            action.accept(awaitSlot(index++));
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Prints the contents of the queue starting at top, one item per line. Note
+     * this method should not empty the contents of the queue.
+     */
+    @Override
+    public void printQueue() {
+        for(long i = head.get(), t = tail.get(); i < t; i++) {
+            System.out.println(slots.get(index(i)));
+        }
+    }
+
+    /**
+     * Tranfers the contents of this queue into the provided queue. The contents
+     * of this queue are to found in reverse order at the top of the provided
+     * queue. This queue should be empty once the transfer is completed. Note
+     * that if the provided queue is null, nothing is to happen.
+     *
+     * @param into The new queue onto which the reversed order of contents from
+     *             this queue are to be transferred to the top of, unless the provided queue
+     *             is null.
+     */
+    @Override
+    public void transfer(Queue<E> into) {
+        if(into == null)
+            return;
+
+        CircularArrayList<E> buffer = drain();
+        while(!buffer.isEmpty())
+            into.offer(buffer.removeLast());
+    }
+
+    /**
+     * Reverses the contents of this queue.
+     */
+    @Override
+    public void reverse() {
+        CircularArrayList<E> buffer = drain();
+        while(!buffer.isEmpty())
+            tryOffer(buffer.removeLast());
+    }
+
+    /**
+     * Merges the contents of the provided queue onto the bottom of this queue.
+     * The order of both queues must be preserved in the order of this queue
+     * after the method call. Furthermore, the provided queue must still contain
+     * its original contents in their original order after the method is
+     * complete. If the provided queue is null, no changes should occur.
+     *
+     * @param from Queue whose contents are to be merged onto the bottom of
+     *             this queue.
+     * @throws IllegalStateException if both queues' contents don't fit in this
+     *                               queue, in which case neither is changed.
+     */
+    @Override
+    public void merge(Queue<E> from) {
+        if(from == null)
+            return;
+        if((long) size() + from.size() > capacity)
+            throw new IllegalStateException("Merged contents exceed the capacity of " + capacity);
+
+        if(from instanceof RingBufferQueue) {
+            // read straight out of the other queue's slots without polling it
+            RingBufferQueue<E> other = (RingBufferQueue<E>) from;
+            for(long i = other.head.get(), t = other.tail.get(); i < t; i++)
+                tryOffer(other.slots.get(other.index(i)));
+            return;
+        }
+
+        // rotate the other queue through once, so no buffer queue is needed
+        for(int i = from.size(); i > 0; i--) {
+            E bufferObj = from.poll();
+            this.tryOffer(bufferObj);
+            from.offer(bufferObj);
+        }
+    }
+
+    // Polls everything currently in the queue into a list, oldest first
+    private CircularArrayList<E> drain() {
+        CircularArrayList<E> buffer = new CircularArrayList<>(size());
+        E element;
+        while((element = poll()) != null)
+            buffer.addLast(element);
+        return buffer;
+    }
+}
@@ -0,0 +1,44 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/***
+ * Tells the processor that the calling thread is in a spin loop, so it can
+ * save power and give the core's other hardware thread a turn (a PAUSE on
+ * x86). Thread.onSpinWait only exists from Java 9 on and build.gradle targets
+ * Java 8, so it is looked up once and called through a constant method
+ * handle, which the JIT inlines down to the bare instruction. On a Java 8
+ * runtime the hint does nothing and the loop simply spins.
+ *
+ * @author Brigham Campbell
+ */
+final class SpinHint {
+
+    private static final MethodHandle ON_SPIN_WAIT = lookup();
+
+    private SpinHint() {
+    }
+
+    private static MethodHandle lookup() {
+        try {
+            return MethodHandles.lookup().findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
+        } catch(NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Hints that the caller is busy-waiting for another thread.
+     */
+    static void onSpinWait() {
+        if(ON_SPIN_WAIT == null)
+            return;
+        try {
+            ON_SPIN_WAIT.invokeExact();
+        } catch(Throwable t) {
+            throw new AssertionError(t); // Thread.onSpinWait throws nothing
+        }
+    }
+}
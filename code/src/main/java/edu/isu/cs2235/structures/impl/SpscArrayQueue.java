@@ -0,0 +1,104 @@
+package edu.isu.cs2235.structures.impl;
+
+/***
+ * A bounded queue for handing elements from exactly one producer thread to
+ * exactly one consumer thread. Since each counter has a single writer no
+ * compare-and-set is needed anywhere: the producer writes the slot and then
+ * publishes it by moving tail along with a release store, and the consumer
+ * does the same with head. The producer also keeps its own copy of head and
+ * only reads the consumer's counter when that copy says the queue is full, so
+ * the two threads rarely touch each other's cache lines.
+ *
+ * offer, offerAll, tryOffer and tryOfferAll must only be called from the
+ * producer thread.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the queue
+ */
+public class SpscArrayQueue<E> extends RingBufferQueue<E> {
+
+    // the producer's last look at head, never ahead of the real one
+    private long headCache;
+
+    /**
+     * Constructs an empty queue that yields while waiting.
+     *
+     * @param capacity most elements the queue can hold, rounded up to a power
+     *                 of two
+     */
+    public SpscArrayQueue(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param capacity     most elements the queue can hold, rounded up to a
+     *                     power of two
+     * @param waitStrategy how offer and take wait on a full or empty queue
+     */
+    public SpscArrayQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    // Room left for the producer, only reading head when the cache says full
+    private long freeSlots(long t) {
+        long free = capacity - (t - headCache);
+        if(free <= 0) {
+            headCache = head.get();
+            free = capacity - (t - headCache);
+        }
+        return free;
+    }
+
+    /**
+     * Inserts an element at the end of the queue if there is room for it.
+     * Null elements are ignored and count as inserted.
+     *
+     * @param element Element to be inserted.
+     * @return true if the element was inserted, false if the queue was full.
+     */
+    @Override
+    public boolean tryOffer(E element) {
+        if(element == null)
+            return true;
+
+        long t = tail.get();
+        if(freeSlots(t) <= 0)
+            return false;
+        slots.lazySet(index(t), element);
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Inserts as many of the given elements, in order, as there is room for,
+     * publishing them together. Null elements are skipped.
+     *
+     * @param elements array holding the elements to insert
+     * @param offset   index of the first element to insert
+     * @param length   number of elements to insert
+     * @return The number of array entries used up, nulls included, which is
+     * less than length only if the queue filled up.
+     */
+    @Override
+    public int tryOfferAll(E[] elements, int offset, int length) {
+        long t = tail.get();
+        long free = freeSlots(t);
+        int written = 0;
+        int used = 0;
+        for(; used < length; used++) {
+            E element = elements[offset + used];
+            if(element == null)
+                continue;
+            if(written == free)
+                break;
+            slots.lazySet(index(t + written), element);
+            written++;
+        }
+        // one release store publishes the whole batch
+        if(written > 0)
+            tail.lazySet(t + written);
+        return used;
+    }
+}
@@ -0,0 +1,498 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.List;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/***
+ * A doubly linked list whose nodes each hold a small array of up to 64
+ * elements instead of a single one. Neighbouring elements sit next to each
+ * other in memory, index lookups skip a whole node at a time, and the per
+ * element overhead of a node is spread over the whole chunk, while inserting
+ * and removing in the middle still only shifts elements within one node.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the list
+ */
+public class UnrolledLinkedList<E> implements List<E> {
+
+    private static final int NODE_CAPACITY = 64;
+
+    private static class Node<E> {
+        private final Object[] elements = new Object[NODE_CAPACITY];
+        private int count;
+        private Node<E> prev;
+        private Node<E> next;
+
+        @SuppressWarnings("unchecked")
+        E get(int offset) {
+            return (E) elements[offset];
+        }
+
+        boolean isFull() {
+            return count == NODE_CAPACITY;
+        }
+
+        void insert(int offset, Object element) {
+            System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+            elements[offset] = element;
+            count++;
+        }
+
+        E remove(int offset) {
+            E retval = get(offset);
+            System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+            count--;
+            elements[count] = null;
+            return retval;
+        }
+    }
+
+    private int numberOfElements;
+    private Node<E> first;
+    private Node<E> last;
+
+    // The node found by the last index lookup and the index of its first
+    // element, so scanning by index doesn't restart from an end every time.
+    // Cleared by anything that moves elements between nodes.
+    private Node<E> finger;
+    private int fingerStart;
+
+    // bumped by every change to the contents, so iterators can fail fast
+    private int modCount;
+
+    /**
+     * Finds the node holding the given index, which must be in bounds, and
+     * leaves the finger on it. The offset within the node is
+     * index - fingerStart.
+     */
+    private Node<E> nodeFor(int index) {
+        Node<E> current;
+        int start;
+        if(finger != null && Math.abs(index - fingerStart) < Math.min(index, numberOfElements - 1 - index)) {
+            current = finger;
+            start = fingerStart;
+        } else if(index < numberOfElements - 1 - index) {
+            current = first;
+            start = 0;
+        } else {
+            current = last;
+            start = numberOfElements - last.count;
+        }
+
+        while(index >= start + current.count) {
+            start += current.count;
+            current = current.next;
+        }
+        while(index < start) {
+            current = current.prev;
+            start -= current.count;
+        }
+
+        finger = current;
+        fingerStart = start;
+        return current;
+    }
+
+    private Node<E> linkAfter(Node<E> node) {
+        Node<E> newNode = new Node<E>();
+        newNode.prev = node;
+        if(node == null) {
+            newNode.next = first;
+            first = newNode;
+        } else {
+            newNode.next = node.next;
+            node.next = newNode;
+        }
+        if(newNode.next == null)
+            last = newNode;
+        else
+            newNode.next.prev = newNode;
+        return newNode;
+    }
+
+    private void unlink(Node<E> node) {
+        if(node.prev == null)
+            first = node.next;
+        else
+            node.prev.next = node.next;
+        if(node.next == null)
+            last = node.prev;
+        else
+            node.next.prev = node.prev;
+    }
+
+    // Keeps nodes from thinning out after removals: a node under half full is
+    // merged into its next neighbour's chunk when both fit in one node
+    private void compact(Node<E> node) {
+        if(node.count == 0) {
+            unlink(node);
+            return;
+        }
+        Node<E> next = node.next;
+        if(next != null && node.count < NODE_CAPACITY / 2 && node.count + next.count <= NODE_CAPACITY) {
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        }
+    }
+
+    /**
+     * @return first element in the list or null if the list is empty.
+     */
+    @Override
+    public E first() {
+        if(numberOfElements > 0) {
+            return first.get(0);
+        }
+        return null;
+    }
+
+    /**
+     * @return last element in the list or null if the list is empty.
+     */
+    @Override
+    public E last() {
+        if(numberOfElements > 0) {
+            return last.get(last.count - 1);
+        }
+        return null;
+    }
+
+    /**
+     * Adds the provided element to the end of the list, only if the element is
+     * not null.
+     *
+     * @param element Element to be added to the end of the list.
+     */
+    @Override
+    public void addLast(E element) {
+        if(element != null) {
+            Node<E> node = last;
+            if(node == null || node.isFull())
+                node = linkAfter(last);
+            node.elements[node.count++] = element;
+            numberOfElements++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Adds the provided element to the front of the list, only if the element
+     * is not null.
+     *
+     * @param element Element to be added to the front of the list.
+     */
+    @Override
+    public void addFirst(E element) {
+        if(element != null) {
+            Node<E> node = first;
+            if(node == null || node.isFull())
+                node = linkAfter(null);
+            node.insert(0, element);
+            numberOfElements++;
+            modCount++;
+            finger = null;
+        }
+    }
+
+    /**
+     * Removes the element at the front of the list.
+     *
+     * @return Element at the front of the list, or null if the list is empty.
+     */
+    @Override
+    public E removeFirst() {
+        if(numberOfElements > 0) {
+            E retval = first.remove(0);
+            if(first.count == 0)
+                unlink(first);
+            numberOfElements--;
+            modCount++;
+            finger = null;
+            return retval;
+        }
+        return null;
+    }
+
+    /**
+     * Removes the element at the end of the list.
+     *
+     * @return Element at the end of the list, or null if the list is empty.
+     */
+    @Override
+    public E removeLast() {
+        if(numberOfElements > 0) {
+            Node<E> node = last;
+            E retval = node.remove(node.count - 1);
+            if(node.count == 0) {
+                unlink(node);
+                if(finger == node)
+                    finger = null;
+            }
+            numberOfElements--;
+            modCount++;
+            return retval;
+        }
+        return null;
+    }
+
+    /**
+     * Inserts the given element into the list at the provided index. The
+     * element will not be inserted if either the element provided is null or if
+     * the index provided is less than 0. If the index is greater than or equal
+     * to the current size of the list, the element will be added to the end of
+     * the list.
+     *
+     * @param element Element to be added (as long as it is not null).
+     * @param index   Index in the list where the element is to be inserted.
+     */
+    @Override
+    public void insert(E element, int index) {
+        if(element != null && index >= 0) {
+            if(index >= numberOfElements) {
+                addLast(element);
+                return;
+            }
+
+            Node<E> node = nodeFor(index);
+            int offset = index - fingerStart;
+            if(node.isFull()) {
+                // split the full node in half and insert into whichever half the index fell in
+                Node<E> upper = linkAfter(node);
+                int half = NODE_CAPACITY / 2;
+                System.arraycopy(node.elements, half, upper.elements, 0, NODE_CAPACITY - half);
+                Arrays.fill(node.elements, half, NODE_CAPACITY, null);
+                upper.count = NODE_CAPACITY - half;
+                node.count = half;
+                if(offset > half) {
+                    node = upper;
+                    offset -= half;
+                }
+            }
+            node.insert(offset, element);
+            numberOfElements++;
+            modCount++;
+            finger = null;
+        }
+    }
+
+    /**
+     * Removes the element at the given index and returns the value.
+     *
+     * @param index Index of the element to remove
+     * @return The value of the element at the given index, or null if the index
+     * is greater than or equal to the size of the list or less than 0.
+     */
+    @Override
+    public E remove(int index) {
+        if(index >= 0 && index < numberOfElements) {
+            Node<E> node = nodeFor(index);
+            E retval = node.remove(index - fingerStart);
+            compact(node);
+            numberOfElements--;
+            modCount++;
+            finger = null;
+            return retval;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the value at the specified index. Will return null if the index
+     * provided is less than 0 or greater than or equal to the current size of
+     * the list.
+     *
+     * @param index Index of the value to be retrieved.
+     * @return Element at the given index, or null if the index is less than 0
+     * or greater than or equal to the list size.
+     */
+    @Override
+    public E get(int index) {
+        if(index >= 0 && index < numberOfElements) {
+            Node<E> node = nodeFor(index);
+            return node.get(index - fingerStart);
+        }
+        return null;
+    }
+
+    /**
+     * @return The current size of the list. Note that 0 is returned for an
+     * empty list.
+     */
+    @Override
+    public int size() {
+        return numberOfElements;
+    }
+
+    /**
+     * @return true if there are no items currently stored in the list, false
+     * otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return numberOfElements == 0;
+    }
+
+    /**
+     * Prints the contents of the list in a single line separating each element
+     * by a space to the default System.out
+     */
+    @Override
+    public void printList() {
+        for(Node<E> node = first; node != null; node = node.next) {
+            for(int i = 0; i < node.count; i++) {
+                System.out.println(node.elements[i]);
+            }
+        }
+    }
+
+    /**
+     * @return An iterator over the elements from first to last. It fails fast,
+     * throwing ConcurrentModificationException if the list is changed while it
+     * is in use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * @return A spliterator over the elements from first to last, which binds
+     * to the list when first used and fails fast like the iterator. It splits
+     * exactly in half, skipping whole nodes to find the middle.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator(null, 0, -1, 0);
+    }
+
+    private class Itr implements Iterator<E> {
+        private Node<E> node = first;
+        private int offset;
+        private int remaining = numberOfElements;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if(remaining == 0)
+                throw new NoSuchElementException();
+            if(offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            remaining--;
+            return node.get(offset++);
+        }
+    }
+
+    private class NodeSpliterator implements Spliterator<E> {
+        private Node<E> node;
+        private int offset;
+        private int remaining; // -1 until first used
+        private int expectedModCount;
+
+        NodeSpliterator(Node<E> node, int offset, int remaining, int expectedModCount) {
+            this.node = node;
+            this.offset = offset;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getRemaining() {
+            if(remaining < 0) {
+                expectedModCount = modCount;
+                node = first;
+                offset = 0;
+                remaining = numberOfElements;
+            }
+            return remaining;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int half = getRemaining() >>> 1;
+            if(half == 0)
+                return null;
+            checkForComodification();
+            Spliterator<E> prefix = new NodeSpliterator(node, offset, half, expectedModCount);
+            int skip = half;
+            while(offset + skip >= node.count) {
+                skip -= node.count - offset;
+                node = node.next;
+                offset = 0;
+            }
+            offset += skip;
+            remaining -= half;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            if(getRemaining() == 0)
+                return false;
+            checkForComodification();
+            if(offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            remaining--;
+            action.accept(node.get(offset++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if(action == null)
+                throw new NullPointerException();
+            getRemaining();
+            while(remaining > 0) {
+                checkForComodification();
+                if(offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                // a node's worth at a time
+                int end = Math.min(node.count, offset + remaining);
+                Object[] elements = node.elements;
+                int start = offset;
+                remaining -= end - start;
+                offset = end;
+                for(int i = start; i < end; i++) {
+                    @SuppressWarnings("unchecked")
+                    E element = (E) elements[i];
+                    action.accept(element);
+                }
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.concurrent.locks.LockSupport;
+
+/***
+ * How a thread waits for a bounded queue to gain an element or free a slot.
+ * Each strategy trades latency against the CPU burnt while waiting: spinning
+ * notices a change soonest but keeps a core busy, yielding lets other threads
+ * run, and parking sleeps the thread and costs the least CPU at the price of
+ * tens of microseconds of wake-up latency. Nothing ever unparks a waiting
+ * thread; it simply checks again when its park times out.
+ *
+ * @author Brigham Campbell
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spin without giving up the CPU. Only worth it when every waiting thread
+     * has a core of its own.
+     */
+    BUSY_SPIN {
+        @Override
+        public void idle(int attempt) {
+            SpinHint.onSpinWait();
+        }
+    },
+
+    /**
+     * Spin for a short while, then yield to other threads between checks.
+     */
+    YIELD {
+        @Override
+        public void idle(int attempt) {
+            if(attempt >= SPINS)
+                Thread.yield();
+            else
+                SpinHint.onSpinWait();
+        }
+    },
+
+    /**
+     * Spin, then yield, then park for a microsecond between checks.
+     */
+    PARK {
+        @Override
+        public void idle(int attempt) {
+            if(attempt >= SPINS + YIELDS)
+                LockSupport.parkNanos(PARK_NANOS);
+            else if(attempt >= SPINS)
+                Thread.yield();
+            else
+                SpinHint.onSpinWait();
+        }
+    };
+
+    private static final int SPINS = 100;
+    private static final int YIELDS = 100;
+    private static final long PARK_NANOS = 1000;
+
+    /**
+     * Waits a little before the caller checks its condition again.
+     *
+     * @param attempt how many times the caller has already waited for the
+     *                same condition, starting at 0
+     */
+    public abstract void idle(int attempt);
+}
@@ -0,0 +1,350 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Deque;
+import edu.isu.cs2235.structures.Queue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+
+/***
+ * A growable work-stealing deque after Chase and Lev, "Dynamic Circular
+ * Work-Stealing Deque" (2005). One thread owns the deque and works the front
+ * of it like a stack with offerFirst, poll and peek; any number of other
+ * threads steal from the back with pollLast. The owner's operations never
+ * compare-and-set except to settle a race for the very last element, and a
+ * thief only ever competes with other thieves for the back slot.
+ *
+ * Elements live in a circular array between two indices, top (the back, where
+ * thieves take from) and bottom (the front, one past the owner's newest
+ * element). Only the owner writes bottom or the array, and grows the array by
+ * copying it when it fills; thieves still holding the old array read the same
+ * elements from it. top carries a stamp that offer bumps whenever it moves the
+ * back outwards, so a thief that read the old back can never mistake the new
+ * one for it.
+ *
+ * offerFirst, offer, poll, peek, reverse and merge must only be called by the
+ * owner; pollLast, peekLast, size, isEmpty and transfer by any thread. A slot a
+ * thief has stolen from keeps its reference until the owner reuses it.
+ *
+ * @author Brigham Campbell
+ * @param <E> The object type to store in the deque
+ */
+public class WorkStealingDeque<E> implements Deque<E> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    // stamp in the high half, index in the low half
+    private final AtomicLong top = new AtomicLong();
+    private volatile int bottom;
+    private volatile Object[] array;
+
+    /**
+     * Constructs an empty deque with room for 64 elements before it grows.
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty deque.
+     *
+     * @param initialCapacity Number of elements to reserve space for. Rounded
+     *                        up to the next power of two.
+     */
+    public WorkStealingDeque(int initialCapacity) {
+        int capacity = initialCapacity <= 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+        array = new Object[capacity];
+    }
+
+    // Indices are ints that are allowed to wrap; only their differences matter
+    private static int index(long word) {
+        return (int) word;
+    }
+
+    private static long word(long stamp, int index) {
+        return (stamp << 32) | (index & INDEX_MASK);
+    }
+
+    private static long stamp(long word) {
+        return word >>> 32;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Object[] a, int index) {
+        return (E) a[index & (a.length - 1)];
+    }
+
+    // Doubles the array, copying the live indices into the same logical places
+    private Object[] grow(Object[] a, int t, int b) {
+        Object[] grown = new Object[a.length << 1];
+        for(int i = t; i != b; i++)
+            grown[i & (grown.length - 1)] = a[i & (a.length - 1)];
+        array = grown;
+        return grown;
+    }
+
+    /**
+     * @return The value of the last element of the deque (without removing it),
+     * or null if the deque is empty.
+     */
+    @Override
+    public E peekLast() {
+        int t = index(top.get());
+        int b = bottom;
+        if(b - t <= 0)
+            return null;
+        return elementAt(array, t);
+    }
+
+    /**
+     * Inserts the given element into the front of the deque, unless the
+     * provided value is null. Owner only.
+     *
+     * @param element Element to be inserted to the front of the deque, nothing
+     *                happens if the value is null.
+     */
+    @Override
+    public void offerFirst(E element) {
+        if(element == null)
+            return;
+
+        int b = bottom;
+        int t = index(top.get());
+        Object[] a = array;
+        if(b - t >= a.length)
+            a = grow(a, t, b);
+        a[b & (a.length - 1)] = element;
+        // publishes the element to thieves
+        bottom = b + 1;
+    }
+
+    /**
+     * @return The value of the last item in the Deque and removes that value
+     * from the deque, if the deque was empty null is returned. Safe to call
+     * from any thread.
+     */
+    @Override
+    public E pollLast() {
+        while(true) {
+            long w = top.get();
+            int t = index(w);
+            int b = bottom;
+            if(b - t <= 0)
+                return null;
+            E element = elementAt(array, t);
+            if(element != null && top.compareAndSet(w, word(stamp(w), t + 1)))
+                return element;
+            // lost the back to another thief or the owner, look again
+        }
+    }
+
+    /**
+     * @return The number of elements in the deque, which may already be out of
+     * date if other threads are using it.
+     */
+    @Override
+    public int size() {
+        int t = index(top.get());
+        int size = bottom - t;
+        return size < 0 ? 0 : size;
+    }
+
+    /**
+     * @return tests whether the deque is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Inserts an element at the end of the deque, where thieves take from.
+     * Owner only.
+     *
+     * @param element Element to be inserted.
+     */
+    @Override
+    public void offer(E element) {
+        if(element == null)
+            return;
+
+        while(true) {
+            long w = top.get();
+            int t = index(w);
+            int b = bottom;
+            Object[] a = array;
+            if(b - t >= a.length)
+                a = grow(a, t, b);
+            // below top, so no thief reads this slot until the stamped top moves
+            a[(t - 1) & (a.length - 1)] = element;
+            if(top.compareAndSet(w, word(stamp(w) + 1, t - 1)))
+                return;
+        }
+    }
+
+    /**
+     * @return The value first element of the deque (with out removing it), or
+     * null if empty. Owner only.
+     */
+    @Override
+    public E peek() {
+        int b = bottom;
+        if(b - index(top.get()) <= 0)
+            return null;
+        return elementAt(array, b - 1);
+    }
+
+    /**
+     * @return The value of the first element of the deque (and removes it), or
+     * null if empty. Owner only.
+     */
+    @Override
+    public E poll() {
+        int b = bottom - 1;
+        Object[] a = array;
+        // claim the front before looking at top, so a thief reading bottom
+        // after this can't take the same element
+        bottom = b;
+        long w = top.get();
+        int t = index(w);
+        int size = b - t;
+        if(size < 0) {
+            bottom = b + 1;
+            return null;
+        }
+
+        int slot = b & (a.length - 1);
+        E element = elementAt(a, b);
+        if(size > 0) {
+            a[slot] = null;
+            return element;
+        }
+
+        // the last element, which a thief may be trying to take as well
+        if(top.compareAndSet(w, word(stamp(w), t + 1)))
+            a[slot] = null;
+        else
+            element = null;
+        bottom = b + 1;
+        return element;
+    }
+
+    /**
+     * @return An iterator over the elements of the deque in the order poll
+     * would return them. Owner only. It is weakly consistent about thieves: it
+     * stops at the back as it stands when each element is read, so it never
+     * returns an element that was stolen before it got there.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = bottom - 1;
+
+            @Override
+            public boolean hasNext() {
+                return next - index(top.get()) >= 0;
+            }
+
+            @Override
+            public E next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                return elementAt(array, next--);
+            }
+        };
+    }
+
+    /**
+     * @return A weakly consistent spliterator over the elements of the deque in
+     * the order poll would return them. Owner only. Thieves can shrink the
+     * deque at any time, so it splits by copying off batches of elements.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Prints the contents of the deque starting at top, one item per line. Note
+     * this method should not empty the contents of the deque.
+     */
+    @Override
+    public void printQueue() {
+        Object[] a = array;
+        int t = index(top.get());
+        for(int i = bottom - 1; i - t >= 0; i--)
+            System.out.println(a[i & (a.length - 1)]);
+    }
+
+    /**
+     * Tranfers the contents of this deque into the provided queue. The contents
+     * of this deque are to found in reverse order at the top of the provided
+     * queue. This deque should be empty once the transfer is completed. Note
+     * that if the provided queue is null, nothing is to happen.
+     *
+     * @param into The new queue onto which the reversed order of contents from
+     *             this deque are to be transferred to the top of, unless the
+     *             provided queue is null.
+     */
+    @Override
+    public void transfer(Queue<E> into) {
+        if(into == null)
+            return;
+
+        E element;
+        while((element = pollLast()) != null)
+            into.offer(element);
+    }
+
+    /**
+     * Reverses the contents of this deque. Owner only.
+     */
+    @Override
+    public void reverse() {
+        CircularArrayList<E> buffer = new CircularArrayList<>(size());
+        E element;
+        while((element = poll()) != null)
+            buffer.addLast(element);
+        // the old front goes in first and so ends up at the back
+        while(!buffer.isEmpty())
+            offerFirst(buffer.removeFirst());
+    }
+
+    /**
+     * Merges the contents of the provided queue onto the bottom of this deque.
+     * The order of both must be preserved in the order of this deque after the
+     * method call. Furthermore, the provided queue must still contain its
+     * original contents in their original order after the method is complete.
+     * If the provided queue is null, no changes should occur. Owner only.
+     *
+     * @param from Queue whose contents are to be merged onto the bottom of
+     *             this deque.
+     */
+    @Override
+    public void merge(Queue<E> from) {
+        if(from == null)
+            return;
+
+        if(from instanceof WorkStealingDeque) {
+            // read the other deque front to back without polling it
+            WorkStealingDeque<E> other = (WorkStealingDeque<E>) from;
+            int t = index(other.top.get());
+            for(int i = other.bottom - 1; i - t >= 0; i--) {
+                E element = elementAt(other.array, i);
+                offer(element);
+            }
+            return;
+        }
+
+        // rotate the other queue through once, so no buffer queue is needed
+        for(int i = from.size(); i > 0; i--) {
+            E bufferObj = from.poll();
+            this.offer(bufferObj);
+            from.offer(bufferObj);
+        }
+    }
+}
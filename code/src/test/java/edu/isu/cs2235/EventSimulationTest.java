@@ -0,0 +1,107 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.random.ServiceTimeSampler;
+import edu.isu.cs2235.random.SplittableRandomStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class EventSimulationTest {
+
+    /**
+     * Test of simulate against the closed form mean wait of an M/D/1 queue,
+     * rho / (2 mu (1 - rho)).
+     */
+    @Test
+    public void testSimulate() {
+        double arrivalRate = 1.0;
+        double serviceMinutes = 0.5;
+        EventSimulation simulation = new EventSimulation(arrivalRate, 1, 4, 100000, serviceMinutes, new SplittableRandomStream(1024));
+
+        SimulationResult result = simulation.simulate(1);
+        double rho = arrivalRate * serviceMinutes;
+        double expected = rho / (2 * (1 / serviceMinutes) * (1 - rho));
+        assertEquals("Mean wait does not match M/D/1", expected, result.getAverageTimeWaited(), 0.02);
+        assertEquals("Not everyone who arrived was served", 400000, result.getNumberOfPeopleServed(), 4000);
+    }
+
+    /**
+     * Test that a seeded simulation is repeatable and that more queues never wait longer.
+     */
+    @Test
+    public void testSimulate_2() {
+        SimulationResult[] first = new EventSimulation(18, 10, 5, 1024).simulate();
+        SimulationResult[] second = new EventSimulation(18, 10, 5, 1024).simulate();
+        assertEquals(10, first.length);
+        for (int i = 0; i < first.length; i++) {
+            assertEquals("Seeded simulation is not repeatable", first[i].getAverageTimeWaited(), second[i].getAverageTimeWaited(), 0);
+            assertEquals("Seeded simulation is not repeatable", first[i].getNumberOfPeopleServed(), second[i].getNumberOfPeopleServed());
+            if (i > 0)
+                assertTrue("Opening another queue made the wait longer", first[i].getAverageTimeWaited() <= first[i - 1].getAverageTimeWaited() + 1e-9);
+        }
+    }
+
+    /**
+     * Test that exponential service at the same mean as fixed service waits as long as an M/M/1
+     * queue, rho / (mu (1 - rho)), which is twice the M/D/1 wait.
+     */
+    @Test
+    public void testServiceModel() {
+        double arrivalRate = 1.0;
+        double serviceMinutes = 0.5;
+        ServiceModel exponential = new ServiceModel(ServiceTimeSampler.exponential(serviceMinutes));
+        SimulationResult random = new EventSimulation(arrivalRate, 1, 4, 100000, exponential, new SplittableRandomStream(1024)).simulate(1);
+        SimulationResult fixed = new EventSimulation(arrivalRate, 1, 4, 100000, serviceMinutes, new SplittableRandomStream(1024)).simulate(1);
+
+        double rho = arrivalRate * serviceMinutes;
+        double expected = rho / ((1 / serviceMinutes) * (1 - rho));
+        assertEquals("Mean wait does not match M/M/1", expected, random.getAverageTimeWaited(), 0.03);
+        assertTrue("Exponential service waited no longer than fixed service",
+                random.getAverageTimeWaited() > fixed.getAverageTimeWaited() * 1.5);
+    }
+
+    /**
+     * Test a counter with two servers against the Erlang C mean wait of an M/M/2 queue with an
+     * arrival rate of 1 and a mean service time of 1, which is 1/3.
+     */
+    @Test
+    public void testServiceModel_2() {
+        ServiceModel model = new ServiceModel(ServiceTimeSampler.exponential(1.0), new double[0], new int[]{2});
+        SimulationResult result = new EventSimulation(1.0, 1, 4, 100000, model, new SplittableRandomStream(1024)).simulate(1);
+        assertEquals("Mean wait does not match M/M/2", 1.0 / 3, result.getAverageTimeWaited(), 0.03);
+        assertEquals("Not everyone who arrived was served", 400000, result.getNumberOfPeopleServed(), 4000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSimulate_3() {
+        new EventSimulation(18, 10, 5, 1024).simulate(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor() {
+        new EventSimulation(18, 0, 5, 1024);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_2() {
+        new EventSimulation(18, 10, 0, 1024);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_3() {
+        new EventSimulation(18, 10, 5, Double.POSITIVE_INFINITY, 0.5, new SplittableRandomStream(1024));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_4() {
+        new EventSimulation(18, 10, 5, 720, 0.5, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_5() {
+        new EventSimulation(18, 10, 5, 720, (ServiceModel) null, new SplittableRandomStream(1024));
+    }
+}
@@ -0,0 +1,336 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.random.RandomStream;
+import edu.isu.cs2235.random.ServiceTimeSampler;
+import edu.isu.cs2235.random.SplittableRandomStream;
+import edu.isu.cs2235.structures.Queue;
+import edu.isu.cs2235.structures.impl.LinkedQueue;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class SimulationTest {
+
+    private ByteArrayOutputStream baos;
+    private PrintStream old;
+
+    @Before
+    public void setUp() {
+        baos = new ByteArrayOutputStream();
+        old = System.out;
+        System.setOut(new PrintStream(baos));
+    }
+
+    @After
+    public void tearDown() {
+        System.out.flush();
+        System.setOut(old);
+    }
+
+    private String takeOutput() {
+        System.out.flush();
+        String output = baos.toString();
+        baos.reset();
+        return output;
+    }
+
+    /**
+     * Test that a seeded simulation prints the same report every time.
+     */
+    @Test
+    public void testRunSimulation() {
+        new Simulation(18, 4, 5, 1024).runSimulation();
+        String first = takeOutput();
+        new Simulation(18, 4, 5, 1024).runSimulation();
+        assertEquals("Seeded simulation is not repeatable", first, takeOutput());
+        assertTrue("Report missing a line per queue count", first.contains("Average time waited using 4 queue(s): "));
+    }
+
+    /**
+     * Test that the parallel run matches the sequential run for the same seed.
+     */
+    @Test
+    public void testRunSimulation_2() throws InterruptedException {
+        new Simulation(18, 6, 8, 42).runSimulation();
+        String sequential = takeOutput();
+
+        new Simulation(18, 6, 8, 42).runSimulation(ForkJoinPool.commonPool());
+        assertEquals("ForkJoinPool run differs from sequential run", sequential, takeOutput());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            new Simulation(18, 6, 8, 42).runSimulation(executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals("Fixed thread pool run differs from sequential run", sequential, takeOutput());
+    }
+
+    /**
+     * Test that a failing iteration on an executor surfaces its exception and cancels the
+     * iterations still waiting or running.
+     */
+    @Test
+    public void testSimulate_3() throws InterruptedException {
+        final AtomicInteger built = new AtomicInteger();
+        final CountDownLatch gate = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("no queue");
+        QueueFactory factory = () -> {
+            if (built.incrementAndGet() == 1) {
+                throw failure;
+            }
+            try {
+                // holds the second iteration until it is cancelled
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new LinkedQueue<>();
+        };
+        Simulation simulation = new Simulation(18, 1, 20, new SplittableRandomStream(5), factory);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            simulation.simulate(executor);
+            fail("Iteration failure not passed on");
+        } catch (IllegalStateException e) {
+            assertSame("Iteration's exception not the cause", failure, e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        try {
+            assertTrue("Iterations left running after a failure", executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue("Cancelled iterations still ran", built.get() <= 2);
+        } finally {
+            // lets a stuck iteration finish if the assertions failed
+            gate.countDown();
+        }
+    }
+
+    /**
+     * Test that simulate returns one result per queue count, matching the single configuration call.
+     */
+    @Test
+    public void testSimulate() {
+        Simulation simulation = new Simulation(18, 5, 4, 7);
+        SimulationResult[] results = simulation.simulate();
+        assertEquals("Not one result per queue count", 5, results.length);
+        for (int i = 0; i < results.length; i++) {
+            SimulationResult single = simulation.simulate(i + 1);
+            assertEquals("Result not stored at its queue count", i + 1, results[i].getNumberOfQueues());
+            assertEquals("Sweep and single configuration disagree", single.getAverageTimeWaited(), results[i].getAverageTimeWaited(), 0);
+            assertEquals("Sweep and single configuration disagree", single.getNumberOfPeopleServed(), results[i].getNumberOfPeopleServed());
+            assertEquals("Minutes simulated not counted per iteration", 4 * 720, results[i].getMinutesSimulated());
+        }
+    }
+
+    /**
+     * Test that the wait statistics agree with the average and with each other.
+     */
+    @Test
+    public void testSimulate_2() {
+        SimulationResult result = new Simulation(18, 9, 10, 1024).simulate(9);
+        assertTrue("Nobody was served", result.getNumberOfPeopleServed() > 0);
+
+        long served = 0;
+        double average = 0;
+        for (int i = 0; i < result.getNumberOfQueues(); i++) {
+            served += result.getQueueWaitStatistics(i).getCount();
+            average += result.getQueueWaitStatistics(i).getMean();
+        }
+        assertEquals("Per queue counts do not add up", result.getNumberOfPeopleServed(), served);
+        assertEquals("Average not the mean of the queue means", average / 9, result.getAverageTimeWaited(), 1e-9);
+
+        double p50 = result.getWaitStatistics().getQuantile(0.5);
+        double p95 = result.getWaitStatistics().getQuantile(0.95);
+        double p99 = result.getWaitStatistics().getQuantile(0.99);
+        assertTrue("Quantiles out of order", result.getWaitStatistics().getMin() <= p50 && p50 <= p95 && p95 <= p99 && p99 <= result.getWaitStatistics().getMax());
+    }
+
+    /**
+     * Test that every queue backend gives the same results for the same seed.
+     */
+    @Test
+    public void testQueueBackends() {
+        SimulationResult[] expected = new Simulation(18, 4, 3, 99).simulate();
+        for (QueueBackend backend : QueueBackend.values()) {
+            SimulationResult[] results = new Simulation(18, 4, 3, new SplittableRandomStream(99), backend).simulate();
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals("Results differ on " + backend, expected[i].getAverageTimeWaited(), results[i].getAverageTimeWaited(), 0);
+                assertEquals("Results differ on " + backend, expected[i].getNumberOfPeopleServed(), results[i].getNumberOfPeopleServed());
+            }
+        }
+    }
+
+    /**
+     * Test that a supplied factory is asked for a separate queue for every line.
+     */
+    @Test
+    public void testQueueFactory() {
+        final List<Queue<Integer>> built = new ArrayList<>();
+        QueueFactory factory = () -> {
+            Queue<Integer> queue = new LinkedQueue<>();
+            built.add(queue);
+            return queue;
+        };
+        SimulationResult result = new Simulation(18, 3, 2, new SplittableRandomStream(5), factory).simulate(3);
+        assertEquals("Not one new queue per line per iteration", 6, built.size());
+        assertEquals("Lines share a queue", 6, new HashSet<>(built).size());
+        assertEquals(new Simulation(18, 3, 2, 5).simulate(3).getNumberOfPeopleServed(), result.getNumberOfPeopleServed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor() {
+        new Simulation(18, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_2() {
+        new Simulation(18, 4, 0, 1024);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_3() {
+        new Simulation(18, 4, 5, (RandomStream) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQueueFactory_2() {
+        new Simulation(18, 3, 2, new SplittableRandomStream(5), null);
+    }
+
+    /**
+     * Test that the default service model matches the old two-per-minute counters, and that
+     * changing the service model leaves the arrivals alone.
+     */
+    @Test
+    public void testServiceModel() {
+        SimulationResult expected = new Simulation(18, 4, 3, 99).simulate(4);
+        SimulationResult result = new Simulation(18, 4, 3, new SplittableRandomStream(99), QueueBackend.PRIMITIVE,
+                new ServiceModel(ServiceTimeSampler.fixed(0.5)), 720).simulate(4);
+        assertEquals("Half a minute per person differs from two per minute", expected.getAverageTimeWaited(), result.getAverageTimeWaited(), 0);
+        assertEquals(expected.getNumberOfPeopleServed(), result.getNumberOfPeopleServed());
+
+        // with ample capacity everyone who arrives is served, however service times are drawn
+        ServiceModel fast = new ServiceModel(ServiceTimeSampler.exponential(0.01));
+        SimulationResult exponential = new Simulation(18, 4, 3, new SplittableRandomStream(99), QueueBackend.PRIMITIVE, fast, 720).simulate(4);
+        ServiceModel faster = new ServiceModel(ServiceTimeSampler.empirical(0.001, 0.002));
+        SimulationResult empirical = new Simulation(18, 4, 3, new SplittableRandomStream(99), QueueBackend.PRIMITIVE, faster, 720).simulate(4);
+        assertEquals("Service model changed the arrivals", exponential.getNumberOfPeopleServed(), empirical.getNumberOfPeopleServed());
+        assertEquals("Nobody should wait at such fast counters", 0, empirical.getAverageTimeWaited(), 0);
+    }
+
+    /**
+     * Test that faster counters and counters with more servers serve more people.
+     */
+    @Test
+    public void testServiceModel_2() {
+        ServiceModel slow = new ServiceModel(ServiceTimeSampler.erlang(3, 1.0));
+        ServiceModel mixed = new ServiceModel(ServiceTimeSampler.erlang(3, 1.0), new double[] {4.0, 1.0}, new int[0]);
+        ServiceModel staffed = new ServiceModel(ServiceTimeSampler.erlang(3, 1.0), new double[0], new int[] {1, 3});
+        assertEquals(4.0, mixed.getCapacity(0), 1e-9);
+        assertEquals("Later counters do not reuse the last speed", 1.0, mixed.getCapacity(5), 1e-9);
+        assertEquals(3.0, staffed.getCapacity(2), 1e-9);
+
+        long slowServed = new Simulation(18, 2, 3, new SplittableRandomStream(3), QueueBackend.PRIMITIVE, slow, 720).simulate(2).getNumberOfPeopleServed();
+        long mixedServed = new Simulation(18, 2, 3, new SplittableRandomStream(3), QueueBackend.PRIMITIVE, mixed, 720).simulate(2).getNumberOfPeopleServed();
+        SimulationResult staffedResult = new Simulation(18, 2, 3, new SplittableRandomStream(3), QueueBackend.PRIMITIVE, staffed, 720).simulate(2);
+        // counters stay saturated at 18 arrivals a minute, so the capacity sets the throughput
+        assertEquals("Slow counters served the wrong number", 2 * 720 * 3, slowServed, 0.05 * 2 * 720 * 3);
+        assertEquals("A faster counter did not serve more", 5 * 720 * 3, mixedServed, 0.05 * 5 * 720 * 3);
+        assertEquals("Extra servers did not serve more", 4 * 720 * 3, staffedResult.getNumberOfPeopleServed(), 0.05 * 4 * 720 * 3);
+        assertTrue("The three server counter did not serve more than the one server counter",
+                staffedResult.getQueueWaitStatistics(1).getCount() > 2 * staffedResult.getQueueWaitStatistics(0).getCount());
+    }
+
+    /**
+     * Test that the length of the day is configurable.
+     */
+    @Test
+    public void testServiceModel_3() {
+        SimulationResult result = new Simulation(18, 3, 4, new SplittableRandomStream(3), QueueBackend.PRIMITIVE,
+                ServiceModel.TWO_PER_MINUTE, 60).simulate(3);
+        assertEquals("Minutes simulated not taken from the day length", 4 * 60, result.getMinutesSimulated());
+        assertTrue("More people served than counters can manage in an hour", result.getNumberOfPeopleServed() <= 4 * 60 * 3 * 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testServiceModel_4() {
+        new Simulation(18, 3, 2, new SplittableRandomStream(5), QueueBackend.PRIMITIVE, null, 720);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testServiceModel_5() {
+        new Simulation(18, 3, 2, new SplittableRandomStream(5), QueueBackend.PRIMITIVE, ServiceModel.TWO_PER_MINUTE, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testServiceModel_6() {
+        new ServiceModel(ServiceTimeSampler.fixed(1), new double[] {1.0, 0.0}, new int[0]);
+    }
+
+    /**
+     * Test that an adaptive run that never stops early matches the fixed run.
+     */
+    @Test
+    public void testStoppingRule() {
+        Simulation simulation = new Simulation(18, 5, 6, 7);
+        SimulationResult[] expected = simulation.simulate();
+        SimulationResult[] results = simulation.simulate(new StoppingRule(0, 0.95, 2, false));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Not every iteration was run", 6, results[i].getNumberOfIterations());
+            assertEquals("Adaptive run differs from the fixed run", expected[i].getAverageTimeWaited(), results[i].getAverageTimeWaited(), 0);
+            assertEquals(expected[i].getNumberOfPeopleServed(), results[i].getNumberOfPeopleServed());
+            assertEquals(6, results[i].getIterationStatistics().getCount());
+        }
+    }
+
+    /**
+     * Test that a configuration stops once its interval is narrow enough.
+     */
+    @Test
+    public void testStoppingRule_2() {
+        Simulation simulation = new Simulation(18, 12, 400, 7);
+        StoppingRule rule = new StoppingRule(0.25, 0.95, 5, false);
+        SimulationResult result = simulation.simulate(10, rule);
+        assertTrue("Ran every iteration of a converged configuration", result.getNumberOfIterations() < 400);
+        assertTrue("Stopped before the minimum iterations", result.getNumberOfIterations() >= 5);
+        assertTrue("Stopped with the interval too wide", rule.halfWidth(result.getIterationStatistics()) <= 0.25);
+        assertEquals("Minutes simulated not counted per iteration run", result.getNumberOfIterations() * 720L, result.getMinutesSimulated());
+    }
+
+    /**
+     * Test that the sweep prunes queue counts that are clearly worse than one already simulated.
+     */
+    @Test
+    public void testStoppingRule_3() {
+        Simulation simulation = new Simulation(18, 12, 200, 7);
+        SimulationResult[] results = simulation.simulate(new StoppingRule(0.01, 0.95, 5, true));
+        assertEquals("Hopeless single counter not pruned", 5, results[0].getNumberOfIterations());
+        assertEquals("Hopeless counters not pruned", 5, results[5].getNumberOfIterations());
+        int total = 0;
+        for (SimulationResult result : results) {
+            total += result.getNumberOfIterations();
+        }
+        assertTrue("Sweep barely ran fewer iterations", total < 12 * 200 / 2);
+        for (int i = 1; i < results.length; i++) {
+            assertTrue("Pruned results out of order", results[i].getAverageTimeWaited() <= results[i - 1].getAverageTimeWaited());
+        }
+    }
+}
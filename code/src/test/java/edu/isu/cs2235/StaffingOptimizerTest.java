@@ -0,0 +1,77 @@
+package edu.isu.cs2235;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class StaffingOptimizerTest {
+
+    // the fewest queues meeting the target by trying every count, or 0 if none does
+    private int linearScan(SimulationResult[] sweep, ServiceLevel target) {
+        for (SimulationResult result : sweep) {
+            if (target.isMetBy(result))
+                return result.getNumberOfQueues();
+        }
+        return 0;
+    }
+
+    /**
+     * Test that the search finds the same count as trying every count, while simulating fewer.
+     */
+    @Test
+    public void testMinimumQueues() {
+        Simulation simulation = new Simulation(18, 40, 4, 1024);
+        SimulationResult[] sweep = simulation.simulate();
+        ServiceLevel[] targets = {
+            ServiceLevel.averageWaitAtMost(1),
+            ServiceLevel.averageWaitAtMost(100),
+            ServiceLevel.quantileWaitAtMost(0.95, 5),
+            ServiceLevel.averageWaitAtMost(1000)
+        };
+        for (ServiceLevel target : targets) {
+            StaffingOptimizer optimizer = new StaffingOptimizer(simulation);
+            SimulationResult result = optimizer.minimumQueues(target);
+            assertEquals("Search disagrees with a full sweep", linearScan(sweep, target), result.getNumberOfQueues());
+            assertEquals("Search result differs from the sweep's", sweep[result.getNumberOfQueues() - 1].getAverageTimeWaited(), result.getAverageTimeWaited(), 0);
+            assertTrue("Search simulated too many configurations: " + optimizer.getConfigurationsSimulated(), optimizer.getConfigurationsSimulated() <= 12);
+        }
+    }
+
+    /**
+     * Test that later searches reuse what earlier ones simulated.
+     */
+    @Test
+    public void testMinimumQueues_2() {
+        StaffingOptimizer optimizer = new StaffingOptimizer(new Simulation(18, 200, 2, 7));
+        int first = optimizer.minimumQueues(ServiceLevel.averageWaitAtMost(2)).getNumberOfQueues();
+        int simulated = optimizer.getConfigurationsSimulated();
+        assertEquals("Repeated search did not come out the same", first, optimizer.minimumQueues(ServiceLevel.averageWaitAtMost(2)).getNumberOfQueues());
+        assertEquals("Repeated search simulated again", simulated, optimizer.getConfigurationsSimulated());
+        int second = optimizer.minimumQueues(ServiceLevel.averageWaitAtMost(1)).getNumberOfQueues();
+        assertTrue("A stricter target needed fewer counters", second >= first);
+        assertTrue("Nearby search did not start from the last answer", optimizer.getConfigurationsSimulated() - simulated <= 6);
+    }
+
+    /**
+     * Test that a target no count meets gives null.
+     */
+    @Test
+    public void testMinimumQueues_3() {
+        StaffingOptimizer optimizer = new StaffingOptimizer(new Simulation(18, 5, 2, 7), new StoppingRule(0.5));
+        assertNull("A target missed by every count was met", optimizer.minimumQueues(ServiceLevel.averageWaitAtMost(1)));
+        assertEquals(1, optimizer.minimumQueues(ServiceLevel.averageWaitAtMost(Double.MAX_VALUE)).getNumberOfQueues());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMinimumQueues_4() {
+        new StaffingOptimizer(new Simulation(18, 5, 2, 7)).minimumQueues(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileWaitAtMost() {
+        ServiceLevel.quantileWaitAtMost(1.5, 5);
+    }
+}
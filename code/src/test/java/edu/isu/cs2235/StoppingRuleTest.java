@@ -0,0 +1,67 @@
+package edu.isu.cs2235;
+
+import edu.isu.cs2235.stats.StreamingStatistics;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class StoppingRuleTest {
+
+    /**
+     * Test of halfWidth method, of class StoppingRule.
+     */
+    @Test
+    public void testHalfWidth() {
+        StreamingStatistics averages = new StreamingStatistics(1.0 / 64);
+        StoppingRule rule = new StoppingRule(0.5);
+        assertEquals("Half width should be unknown without a spread", Double.POSITIVE_INFINITY, rule.halfWidth(averages), 0);
+        for (int i = 0; i < 50; i++) {
+            averages.add(i % 2 == 0 ? 1 : 3);
+        }
+        double standardError = averages.getStandardDeviation() / Math.sqrt(50);
+        assertEquals("Not a 95% normal interval", 1.959964 * standardError, rule.halfWidth(averages), 1e-6);
+        StoppingRule wide = new StoppingRule(0.5, 0.99, 2, false);
+        assertEquals("Not a 99% normal interval", 2.575829 * standardError, wide.halfWidth(averages), 1e-6);
+        StoppingRule narrow = new StoppingRule(0.5, 0.5, 2, false);
+        assertEquals("Not a 50% normal interval", 0.674490 * standardError, narrow.halfWidth(averages), 1e-6);
+    }
+
+    /**
+     * Test of isDone method, of class StoppingRule.
+     */
+    @Test
+    public void testIsDone() {
+        StreamingStatistics averages = new StreamingStatistics(1.0 / 64);
+        StoppingRule rule = new StoppingRule(0.1, 0.95, 4, true);
+        averages.add(10);
+        averages.add(10);
+        averages.add(10);
+        assertFalse("Stopped before the minimum iterations", rule.isDone(averages, Double.POSITIVE_INFINITY));
+        averages.add(10);
+        assertTrue("Did not stop with no spread", rule.isDone(averages, Double.POSITIVE_INFINITY));
+
+        averages.add(20);
+        assertFalse("Stopped with a wide interval", rule.isDone(averages, Double.POSITIVE_INFINITY));
+        assertTrue("Did not prune a clearly worse configuration", rule.isDone(averages, 2));
+        assertFalse("Pruned an overlapping configuration", rule.isDone(averages, 11));
+        assertFalse("Pruned with pruning off", new StoppingRule(0.1, 0.95, 4, false).isDone(averages, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor() {
+        new StoppingRule(0.5, 1.0, 10, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_2() {
+        new StoppingRule(0.5, 0.95, 1, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_3() {
+        new StoppingRule(-1);
+    }
+}
@@ -0,0 +1,78 @@
+package edu.isu.cs2235.random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class PoissonSamplerTest {
+
+    private static final int SAMPLES = 200000;
+
+    // checks the sample mean and variance are both within a few standard errors of lambda
+    private void assertPoisson(double mean) {
+        PoissonSampler sampler = PoissonSampler.forMean(mean);
+        RandomStream random = new SplittableRandomStream(1024);
+
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            int k = sampler.sample(random);
+            assertTrue("Negative sample drawn", k >= 0);
+            sum += k;
+            sumOfSquares += (double) k * k;
+        }
+        double sampleMean = sum / SAMPLES;
+        double sampleVariance = sumOfSquares / SAMPLES - sampleMean * sampleMean;
+
+        double tolerance = 5 * Math.sqrt(mean / SAMPLES) + 1e-9;
+        assertEquals("Sample mean off for lambda " + mean, mean, sampleMean, tolerance);
+        assertEquals("Sample variance off for lambda " + mean, mean, sampleVariance, 0.05 * mean + 1e-9);
+    }
+
+    /**
+     * Test of the table lookup path.
+     */
+    @Test
+    public void testSample() {
+        assertPoisson(0.5);
+        assertPoisson(4);
+        assertPoisson(11.5);
+    }
+
+    /**
+     * Test of the transformed rejection path.
+     */
+    @Test
+    public void testSample_2() {
+        assertPoisson(12);
+        assertPoisson(18);
+        assertPoisson(300);
+        assertPoisson(5000);
+    }
+
+    @Test
+    public void testSample_3() {
+        PoissonSampler sampler = PoissonSampler.forMean(0);
+        RandomStream random = new SplittableRandomStream(1024);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Sample drawn from a zero mean was not zero", 0, sampler.sample(random));
+        }
+    }
+
+    /**
+     * Test of forMean caching.
+     */
+    @Test
+    public void testForMean() {
+        assertSame("Sampler not cached per mean", PoissonSampler.forMean(18), PoissonSampler.forMean(18));
+        assertEquals(18, PoissonSampler.forMean(18).getMean(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForMean_2() {
+        PoissonSampler.forMean(-1);
+    }
+}
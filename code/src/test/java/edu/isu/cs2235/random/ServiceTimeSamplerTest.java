@@ -0,0 +1,96 @@
+package edu.isu.cs2235.random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class ServiceTimeSamplerTest {
+
+    private static final int SAMPLES = 200000;
+
+    // checks the sample mean and variance are both within a few percent of the expected values
+    private void assertMoments(ServiceTimeSampler sampler, double mean, double variance) {
+        RandomStream random = new SplittableRandomStream(1024);
+
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double x = sampler.sample(random);
+            assertTrue("Negative service time drawn", x >= 0);
+            sum += x;
+            sumOfSquares += x * x;
+        }
+        double sampleMean = sum / SAMPLES;
+        double sampleVariance = sumOfSquares / SAMPLES - sampleMean * sampleMean;
+
+        assertEquals("Reported mean is wrong", mean, sampler.getMean(), 1e-12);
+        assertEquals("Sample mean off", mean, sampleMean, 0.02 * mean);
+        assertEquals("Sample variance off", variance, sampleVariance, 0.05 * variance + 1e-12);
+    }
+
+    /**
+     * Test of the fixed method, of class ServiceTimeSampler.
+     */
+    @Test
+    public void testFixed() {
+        RandomStream random = new SplittableRandomStream(1024);
+        RandomStream untouched = new SplittableRandomStream(1024);
+        ServiceTimeSampler sampler = ServiceTimeSampler.fixed(0.5);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0.5, sampler.sample(random), 0);
+        }
+        assertEquals("A fixed service time drew random numbers", untouched.nextLong(), random.nextLong());
+    }
+
+    /**
+     * Test of the exponential and erlang methods, of class ServiceTimeSampler.
+     */
+    @Test
+    public void testErlang() {
+        assertMoments(ServiceTimeSampler.exponential(2.0), 2.0, 4.0);
+        assertMoments(ServiceTimeSampler.erlang(4, 2.0), 2.0, 1.0);
+    }
+
+    /**
+     * Test that an Erlang sampler with enough phases for the product of its
+     * uniforms to underflow still draws finite times around its mean.
+     */
+    @Test
+    public void testErlang_3() {
+        ServiceTimeSampler sampler = ServiceTimeSampler.erlang(5000, 2.0);
+        RandomStream random = new SplittableRandomStream(1024);
+
+        double sum = 0;
+        for (int i = 0; i < 1000; i++) {
+            double x = sampler.sample(random);
+            assertFalse("Infinite service time drawn", Double.isInfinite(x));
+            sum += x;
+        }
+        // the standard deviation of one draw is 2 / sqrt(5000), under 0.03
+        assertEquals("Sample mean off", 2.0, sum / 1000, 0.01);
+    }
+
+    /**
+     * Test of the empirical method, of class ServiceTimeSampler.
+     */
+    @Test
+    public void testEmpirical() {
+        double[] observed = {1.0, 2.0, 6.0};
+        ServiceTimeSampler sampler = ServiceTimeSampler.empirical(observed);
+        observed[2] = 100;
+        assertMoments(sampler, 3.0, 14.0 / 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testErlang_2() {
+        ServiceTimeSampler.erlang(0, 1.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmpirical_2() {
+        ServiceTimeSampler.empirical();
+    }
+}
@@ -0,0 +1,68 @@
+package edu.isu.cs2235.random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class SplittableRandomStreamTest {
+
+    /**
+     * Test that the same seed always produces the same sequence.
+     */
+    @Test
+    public void testSeed() {
+        RandomStream a = new SplittableRandomStream(1024);
+        RandomStream b = new SplittableRandomStream(1024);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Same seed produced different sequences", a.nextLong(), b.nextLong());
+        }
+    }
+
+    /**
+     * Test that substreams depend only on the seed and index.
+     */
+    @Test
+    public void testSubstream() {
+        RandomStream a = new SplittableRandomStream(1024);
+        RandomStream b = new SplittableRandomStream(1024);
+        b.nextLong();
+        b.split();
+
+        RandomStream fromA = a.substream(7);
+        RandomStream fromB = b.substream(7);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Substream depends on the state of its parent", fromA.nextLong(), fromB.nextLong());
+        }
+    }
+
+    @Test
+    public void testSubstream_2() {
+        RandomStream root = new SplittableRandomStream(1024);
+        RandomStream first = root.substream(0);
+        RandomStream second = root.substream(1);
+
+        int same = 0;
+        for (int i = 0; i < 100; i++) {
+            if (first.nextLong() == second.nextLong())
+                same++;
+        }
+        assertEquals("Neighbouring substreams produced the same values", 0, same);
+    }
+
+    /**
+     * Test that nextDouble and nextInt stay within their ranges.
+     */
+    @Test
+    public void testBounds() {
+        RandomStream random = new SplittableRandomStream(42);
+        for (int i = 0; i < 10000; i++) {
+            double d = random.nextDouble();
+            assertTrue("nextDouble out of range", d >= 0.0 && d < 1.0);
+            int n = random.nextInt(13);
+            assertTrue("nextInt out of range", n >= 0 && n < 13);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package edu.isu.cs2235.stats;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class StreamingStatisticsTest {
+
+    private static double[] sample(long seed, int size) {
+        Random random = new Random(seed);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = -Math.log(1 - random.nextDouble()) * 40;
+        }
+        return values;
+    }
+
+    /**
+     * Test of add, against the two pass mean and variance.
+     */
+    @Test
+    public void testAdd() {
+        double[] values = sample(1024, 10000);
+        StreamingStatistics fixture = new StreamingStatistics(1.0 / 64);
+        double sum = 0;
+        for (double value : values) {
+            fixture.add(value);
+            sum += value;
+        }
+        double mean = sum / values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+
+        assertEquals(values.length, fixture.getCount());
+        assertEquals("Mean incorrect", mean, fixture.getMean(), 1e-9);
+        assertEquals("Variance incorrect", squares / (values.length - 1), fixture.getVariance(), 1e-6);
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertEquals("Min incorrect", sorted[0], fixture.getMin(), 0);
+        assertEquals("Max incorrect", sorted[sorted.length - 1], fixture.getMax(), 0);
+    }
+
+    @Test
+    public void testAdd_2() {
+        StreamingStatistics fixture = new StreamingStatistics(1.0);
+        assertEquals(0, fixture.getCount());
+        assertEquals(0, fixture.getMean(), 0);
+        assertEquals(0, fixture.getVariance(), 0);
+        assertTrue("Min of nothing should be NaN", Double.isNaN(fixture.getMin()));
+        assertTrue("Quantile of nothing should be NaN", Double.isNaN(fixture.getQuantile(0.5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdd_3() {
+        new StreamingStatistics(1.0).add(-1);
+    }
+
+    /**
+     * Test that merging partial statistics gives the same answer as adding everything to one.
+     */
+    @Test
+    public void testMerge() {
+        double[] values = sample(42, 9000);
+        StreamingStatistics whole = new StreamingStatistics(1.0 / 64);
+        StreamingStatistics[] parts = new StreamingStatistics[3];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new StreamingStatistics(1.0 / 64);
+        }
+        for (int i = 0; i < values.length; i++) {
+            whole.add(values[i]);
+            parts[i % parts.length].add(values[i]);
+        }
+
+        StreamingStatistics merged = new StreamingStatistics(1.0 / 64);
+        for (StreamingStatistics part : parts) {
+            merged.merge(part);
+        }
+        assertEquals("Count incorrect after merge", whole.getCount(), merged.getCount());
+        assertEquals("Mean incorrect after merge", whole.getMean(), merged.getMean(), 1e-9);
+        assertEquals("Variance incorrect after merge", whole.getVariance(), merged.getVariance(), 1e-6);
+        assertEquals("Min incorrect after merge", whole.getMin(), merged.getMin(), 0);
+        assertEquals("Max incorrect after merge", whole.getMax(), merged.getMax(), 0);
+        for (double q : new double[]{0, 0.5, 0.95, 0.99, 1}) {
+            assertEquals("Quantile " + q + " incorrect after merge", whole.getQuantile(q), merged.getQuantile(q), 0);
+        }
+    }
+
+    /**
+     * Test that quantiles are within the sketch's relative error of the exact ones.
+     */
+    @Test
+    public void testGetQuantile() {
+        double[] values = sample(7, 100000);
+        StreamingStatistics fixture = new StreamingStatistics(1.0 / 64);
+        for (double value : values) {
+            fixture.add(value);
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (double q : new double[]{0.5, 0.95, 0.99}) {
+            double exact = sorted[(int) Math.ceil(q * sorted.length) - 1];
+            assertEquals("Quantile " + q + " outside the sketch's error", exact, fixture.getQuantile(q), exact / 64 + 1.0 / 64);
+        }
+    }
+
+    @Test
+    public void testGetQuantile_2() {
+        StreamingStatistics fixture = new StreamingStatistics(1.0);
+        for (int i = 1; i <= 100; i++) {
+            fixture.add(i);
+        }
+        assertEquals("Whole values below 128 should be exact", 50, fixture.getQuantile(0.5), 0);
+        assertEquals("Whole values below 128 should be exact", 95, fixture.getQuantile(0.95), 0);
+        assertEquals("Whole values below 128 should be exact", 100, fixture.getQuantile(1), 0);
+        assertEquals("Whole values below 128 should be exact", 1, fixture.getQuantile(0), 0);
+    }
+}
@@ -0,0 +1,163 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Runs the List suite against DoublyLinkedList, plus tests of the methods
+ * only DoublyLinkedList has.
+ *
+ * @author Brigham Campbell
+ */
+public class DoublyLinkedListTest extends ListTest {
+
+    /**
+     * @return a new, empty DoublyLinkedList. Variants of the list, such as one
+     * that recycles its nodes, reuse this suite by overriding it.
+     */
+    @Override
+    protected DoublyLinkedList<Integer> createList() {
+        return new DoublyLinkedList<>();
+    }
+
+    /**
+     * Test of reverse method, of class DoublyLinkedList.
+     */
+    @Test
+    public void testReverse() {
+        DoublyLinkedList<Integer> list = createList();
+        list.reverse();
+        assertTrue("Reversing an empty list added elements", list.isEmpty());
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+        assertEquals(new Integer(3), list.get(3));
+        list.reverse();
+        assertEquals("First not updated after reverse", new Integer(9), list.first());
+        assertEquals("Last not updated after reverse", new Integer(0), list.last());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("List order not reversed after reverse call", new Integer(9 - i), list.get(i));
+        }
+        list.addFirst(10);
+        list.addLast(-1);
+        list.insert(42, 5);
+        assertEquals(new Integer(10), list.removeFirst());
+        assertEquals(new Integer(-1), list.removeLast());
+        assertEquals(new Integer(42), list.remove(4));
+        for (int i = 9; i >= 0; i--) {
+            assertEquals("Links broken after reverse", new Integer(i), list.removeFirst());
+        }
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Test of addAllLast, addAllFirst and the bulk removeFirst methods, of
+     * class DoublyLinkedList.
+     */
+    @Test
+    public void testBulk() {
+        DoublyLinkedList<Integer> list = createList();
+        list.addAllLast(Arrays.asList(3, null, 4, 5));
+        list.addAllFirst(Arrays.asList(2, 1, null, 0));
+        list.addAllLast(new ArrayList<Integer>());
+        assertEquals("size is not correctly updated after bulk adds", 6, list.size());
+        assertEquals(new Integer(5), list.last());
+        for (int i = 0; i < 6; i++) {
+            assertEquals("Bulk adds not linked in order", new Integer(i), list.get(i));
+        }
+        // leaves the finger on index 3
+        assertEquals(new Integer(3), list.get(3));
+
+        ArrayList<Integer> removed = new ArrayList<>();
+        assertEquals(2, list.removeFirst(2, removed::add));
+        assertEquals(Arrays.asList(0, 1), removed);
+        assertEquals("Index lookups wrong after a bulk remove", new Integer(4), list.get(2));
+        assertEquals(new Integer(2), list.first());
+        list.addAllFirst(Arrays.asList(1, 0));
+        assertEquals(new Integer(3), list.get(3));
+        assertEquals("Removed more than the list held", 6, list.removeFirst(10, removed::add));
+        assertTrue(list.isEmpty());
+        assertNull(list.last());
+        list.addAllLast(Arrays.asList(7, 8));
+        assertEquals(new Integer(7), list.removeFirst());
+        assertEquals(new Integer(8), list.removeLast());
+    }
+
+    /**
+     * Test that a consumer throwing part way through removeFirst leaves the
+     * list holding just the elements it was not given, of class DoublyLinkedList.
+     */
+    @Test
+    public void testBulk_2() {
+        DoublyLinkedList<Integer> list = createList();
+        list.addAllLast(Arrays.asList(0, 1, 2, 3, 4, 5));
+        // leaves the finger on a node the bulk remove takes
+        assertEquals(new Integer(1), list.get(1));
+
+        ArrayList<Integer> removed = new ArrayList<>();
+        try {
+            list.removeFirst(5, e -> {
+                if (e == 3) {
+                    throw new IllegalStateException();
+                }
+                removed.add(e);
+            });
+            fail("Consumer's exception not passed on");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals(Arrays.asList(0, 1, 2), removed);
+        assertEquals("size is not correct after a consumer threw", 2, list.size());
+        assertEquals(new Integer(4), list.first());
+        assertEquals(new Integer(5), list.last());
+        assertEquals("Index lookups wrong after a consumer threw", new Integer(5), list.get(1));
+        assertEquals(new Integer(4), list.get(0));
+        ArrayList<Integer> remaining = new ArrayList<>();
+        for (Integer e : list) {
+            remaining.add(e);
+        }
+        assertEquals(Arrays.asList(4, 5), remaining);
+
+        list.addAllLast(Arrays.asList(6, 7));
+        assertEquals(4, list.removeFirst(10, removed::add));
+        assertEquals(Arrays.asList(0, 1, 2, 4, 5, 6, 7), removed);
+        assertTrue(list.isEmpty());
+        assertNull(list.last());
+    }
+
+    /**
+     * Test of spliceFirst, spliceLast and copyLast methods, of class DoublyLinkedList.
+     */
+    @Test
+    public void testSplice() {
+        DoublyLinkedList<Integer> list = createList();
+        DoublyLinkedList<Integer> other = createList();
+        for (int i = 3; i < 6; i++) {
+            list.addLast(i);
+            other.addLast(i + 3);
+        }
+        assertEquals(new Integer(4), list.get(1));
+        list.spliceLast(other);
+        assertTrue("Spliced list was not emptied", other.isEmpty());
+        for (int i = 0; i < 3; i++) {
+            other.addLast(i);
+        }
+        list.spliceFirst(other);
+        assertEquals("Size not updated after splice", 9, list.size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals("Splice misplaced an element", new Integer(i), list.get(i));
+        }
+        for (int i = 8; i >= 0; i--) {
+            assertEquals("Backward scan after splice misplaced an element", new Integer(i), list.get(i));
+        }
+
+        list.copyLast(list);
+        assertEquals("Size not updated after copying a list onto itself", 18, list.size());
+        assertEquals(new Integer(8), list.get(17));
+        other.copyLast(list);
+        other.removeFirst();
+        assertEquals("Changing a copy changed the original", new Integer(0), list.first());
+        assertEquals(17, other.size());
+    }
+}
@@ -0,0 +1,214 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Stack;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class EliminationBackoffStackTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 50000;
+
+    private EliminationBackoffStack<Integer> fixture;
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() {
+        fixture = new EliminationBackoffStack<>(2);
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test of push, peek, pop and size methods, of class EliminationBackoffStack.
+     */
+    @Test
+    public void testPushPop() {
+        assertNull("Pop of an empty stack did not return null", fixture.pop());
+        assertNull("Peek of an empty stack did not return null", fixture.peek());
+        fixture.push(null);
+        assertTrue("Pushing null added an element", fixture.isEmpty());
+        for (int i = 1; i <= 10; i++) {
+            fixture.push(i);
+            assertEquals("size is not correctly updated after a push", i, fixture.size());
+        }
+        assertEquals(new Integer(10), fixture.peek());
+        for (int i = 10; i > 0; i--) {
+            assertEquals("Stack did not pop in LIFO order", new Integer(i), fixture.pop());
+        }
+        assertTrue(fixture.isEmpty());
+        assertEquals(0, fixture.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor() {
+        new EliminationBackoffStack<Integer>(0);
+    }
+
+    /**
+     * Test of pushAll, popN and drainTo methods.
+     */
+    @Test
+    public void testBulk() {
+        fixture.push(0);
+        fixture.pushAll(new Integer[] {1, null, 2});
+        fixture.pushAll(Arrays.asList(3, 4));
+        assertEquals("size is not correctly updated after pushAll", 5, fixture.size());
+        ArrayList<Integer> popped = new ArrayList<>();
+        assertEquals(2, fixture.popN(2, popped::add));
+        assertEquals(3, fixture.drainTo(popped, 10));
+        assertEquals("pushAll did not leave the last element on top", Arrays.asList(4, 3, 2, 1, 0), popped);
+        assertTrue(fixture.isEmpty());
+    }
+
+    /**
+     * Test of transfer, reverse and merge methods.
+     */
+    @Test
+    public void testTransferReverseMerge() {
+        for (int i = 1; i <= 5; i++) {
+            fixture.push(i);
+        }
+        fixture.reverse();
+        assertEquals("Reverse changed the size", 5, fixture.size());
+        assertEquals("Stack order not reversed after reverse call", new Integer(1), fixture.peek());
+        fixture.reverse();
+
+        LinkedStack<Integer> linked = new LinkedStack<>();
+        linked.push(7);
+        linked.push(6);
+        fixture.merge(linked);
+        assertEquals("Merged stack's contents not restored", new Integer(6), linked.pop());
+        fixture.merge(fixture);
+        assertEquals("Stack size not correct after merges", 14, fixture.size());
+
+        EliminationBackoffStack<Integer> other = new EliminationBackoffStack<>();
+        fixture.transfer(other);
+        assertTrue("Stack on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        assertEquals(14, other.size());
+        Integer[] expected = {1, 2, 3, 4, 5, 7, 6, 1, 2, 3, 4, 5, 7, 6};
+        for (Integer value : expected) {
+            assertEquals("Order in transfer to stack is not reversed", value, other.pop());
+        }
+        assertTrue("Transferred stack has extra elements", other.isEmpty());
+    }
+
+    /**
+     * Test that merge puts the other stack's elements on top in their own
+     * order, whatever kind of stack it is, as the other Stacks do.
+     */
+    @Test
+    public void testMerge() {
+        List<Stack<Integer>> others = Arrays.<Stack<Integer>>asList(
+                new EliminationBackoffStack<>(), new ArrayStack<>(), new LinkedStack<>());
+        for (Stack<Integer> merged : others) {
+            EliminationBackoffStack<Integer> stack = new EliminationBackoffStack<>();
+            for (int i = 1; i <= 3; i++) {
+                stack.push(i);
+            }
+            for (int i = 10; i <= 12; i++) {
+                merged.push(i);
+            }
+            stack.merge(merged);
+            assertEquals("Stack size not correct after merge", 6, stack.size());
+            assertEquals("Merged stack's size changed", 3, merged.size());
+
+            Integer[] expected = {12, 11, 10, 3, 2, 1};
+            for (Integer value : expected) {
+                assertEquals("Merged elements not on top in their own order", value, stack.pop());
+            }
+            assertTrue("Merged stack has extra elements", stack.isEmpty());
+            for (int i = 12; i >= 10; i--) {
+                assertEquals("Merged stack's contents not restored", new Integer(i), merged.pop());
+            }
+        }
+    }
+
+    /**
+     * Test that with many threads pushing and popping, every element pushed is
+     * popped exactly once.
+     */
+    @Test
+    public void testConcurrentPushPop() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<int[]>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            workers.add(pool.submit(new Callable<int[]>() {
+                @Override
+                public int[] call() throws Exception {
+                    int[] popped = new int[THREADS * PER_THREAD];
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        fixture.push(thread * PER_THREAD + i);
+                        // pop about as often as we push, so elimination gets a chance
+                        if ((i & 1) == 1 || thread % 2 == 0) {
+                            Integer value = fixture.pop();
+                            if (value != null)
+                                popped[value]++;
+                        }
+                        if (fixture.size() < 0)
+                            throw new AssertionError("Negative size under contention");
+                    }
+                    return popped;
+                }
+            }));
+        }
+
+        start.countDown();
+        int[] total = new int[THREADS * PER_THREAD];
+        for (Future<int[]> worker : workers) {
+            int[] popped = worker.get();
+            for (int v = 0; v < total.length; v++) {
+                total[v] += popped[v];
+            }
+        }
+        int remaining = fixture.size();
+        Integer value;
+        while ((value = fixture.pop()) != null) {
+            total[value]++;
+            remaining--;
+        }
+        assertEquals("Size did not match the elements left", 0, remaining);
+        for (int v = 0; v < total.length; v++) {
+            assertEquals("Element " + v + " not popped exactly once", 1, total[v]);
+        }
+    }
+
+    /**
+     * Test of iterator and stream methods, for class EliminationBackoffStack.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 100; i++) {
+            fixture.push(i);
+        }
+        int expected = 99;
+        for (Integer element : fixture) {
+            assertEquals("Iterator not in pop order", new Integer(expected--), element);
+        }
+        assertEquals(-1, expected);
+        assertEquals("Parallel stream missed or repeated elements", 4950,
+                fixture.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals("Iterating changed the stack", 100, fixture.size());
+        assertEquals(new Integer(99), fixture.peek());
+    }
+}
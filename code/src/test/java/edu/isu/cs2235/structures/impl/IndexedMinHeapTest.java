@@ -0,0 +1,106 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class IndexedMinHeapTest {
+
+    private IndexedMinHeap fixture;
+
+    @Before
+    public void setUp() {
+        fixture = new IndexedMinHeap(5);
+    }
+
+    /**
+     * Test of minIndex method, of class IndexedMinHeap.
+     */
+    @Test
+    public void testMinIndex() {
+        assertEquals("Ties not broken by lowest index", 0, fixture.minIndex());
+        assertEquals("Keys not initialized to zero", 0, fixture.minKey(), 0);
+    }
+
+    @Test
+    public void testMinIndex_2() {
+        fixture.increment(0);
+        assertEquals("Minimum not updated after increment", 1, fixture.minIndex());
+        fixture.increment(1);
+        fixture.increment(2);
+        fixture.increment(3);
+        fixture.increment(4);
+        assertEquals("Ties not broken by lowest index after updates", 0, fixture.minIndex());
+        assertEquals("Key not updated by increment", 1, fixture.key(3), 0);
+    }
+
+    @Test
+    public void testMinIndex_3() {
+        fixture.set(3, -4);
+        assertEquals("Minimum not updated after set", 3, fixture.minIndex());
+        fixture.decrement(1);
+        assertEquals("Minimum changed by a larger key", 3, fixture.minIndex());
+        fixture.set(3, 10);
+        assertEquals("Minimum not updated after raising its key", 1, fixture.minIndex());
+    }
+
+    /**
+     * Test that the heap always agrees with a left to right scan for the smallest key.
+     */
+    @Test
+    public void testAgainstScan() {
+        Random random = new Random(1024);
+        int[] keys = new int[37];
+        fixture = new IndexedMinHeap(keys.length);
+        for (int op = 0; op < 100000; op++) {
+            int index = random.nextInt(keys.length);
+            switch (random.nextInt(3)) {
+                case 0:
+                    keys[index]++;
+                    fixture.increment(index);
+                    break;
+                case 1:
+                    keys[index]--;
+                    fixture.decrement(index);
+                    break;
+                default:
+                    keys[index] = random.nextInt(20);
+                    fixture.set(index, keys[index]);
+            }
+
+            int smallest = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] < keys[smallest])
+                    smallest = i;
+            }
+            assertEquals("Heap disagrees with a scan for the smallest key", smallest, fixture.minIndex());
+        }
+    }
+
+    /**
+     * Test of fractional keys and an initial key, as used for event times.
+     */
+    @Test
+    public void testSet() {
+        fixture = new IndexedMinHeap(4, Double.POSITIVE_INFINITY);
+        assertEquals("Keys not initialized to the initial key", Double.POSITIVE_INFINITY, fixture.minKey(), 0);
+        fixture.set(2, 1.75);
+        fixture.set(3, 1.5);
+        assertEquals("Fractional keys not ordered", 3, fixture.minIndex());
+        assertEquals(1.5, fixture.minKey(), 0);
+        fixture.set(3, Double.POSITIVE_INFINITY);
+        assertEquals("Minimum not updated after clearing a slot", 2, fixture.minIndex());
+        fixture.set(0, 1.75);
+        assertEquals("Tie on a fractional key not broken by lowest index", 0, fixture.minIndex());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor() {
+        new IndexedMinHeap(0);
+    }
+}
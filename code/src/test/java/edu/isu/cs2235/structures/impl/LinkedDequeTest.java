@@ -1,8 +1,11 @@
 package edu.isu.cs2235.structures.impl;
 
 import edu.isu.cs2235.structures.Deque;
+import edu.isu.cs2235.structures.Queue;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -31,7 +34,7 @@ public class LinkedDequeTest {
 
     @Before
     public void setUp() {
-        fixture = new LinkedDeque
+        fixture = new LinkedDeque<>();
     }
 
     @After
@@ -259,6 +262,42 @@ public class LinkedDequeTest {
         assertFalse("Deque on which transfer was called is empty, when transfer to deque is null", fixture.isEmpty());
     }
 
+    @Test
+    public void testTransfer_3() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new LinkedQueue<>();
+        other.offer(0);
+        fixture.transfer(other);
+        assertTrue("Deque on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        assertEquals("Other queue size not correct after transfer", 11, other.size());
+        assertEquals("Transfer disturbed the other queue's contents", new Integer(0), other.poll());
+        for (int i = 10; i > 0; i--) {
+            assertEquals("Order in transfer to queue is not reversed", new Integer(i), other.poll());
+        }
+
+        fixture.offer(1);
+        fixture.offer(2);
+        assertEquals("Deque not usable after transfer", 2, fixture.size());
+        assertEquals(new Integer(1), fixture.poll());
+    }
+
+    @Test
+    public void testTransfer_4() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new ArrayQueue<>();
+        fixture.transfer(other);
+        assertTrue("Deque on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        for (int i = 10; i > 0; i--) {
+            assertEquals("Order in transfer to an array queue is not reversed", new Integer(i), other.poll());
+        }
+    }
+
     /**
      * Test of reverse method, of class LinkedDeque.
      */
@@ -347,6 +386,47 @@ public class LinkedDequeTest {
 	    assertEquals("Other queue order not restored", new Integer(i), other.poll());
     }
 
+    @Test
+    public void testMerge_5() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new LinkedQueue<>();
+        for (int i = 11; i <= 20; i++) {
+            other.offer(i);
+        }
+
+        fixture.merge(other);
+        other.poll();
+        other.offer(99);
+        assertEquals("Changing the merged queue changed this deque", 20, fixture.size());
+        for (int i = 1; i <= 20; i++) {
+            assertEquals("Merged contents not copied", new Integer(i), fixture.poll());
+        }
+    }
+
+    @Test
+    public void testMerge_6() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new ArrayQueue<>();
+        for (int i = 11; i <= 20; i++) {
+            other.offer(i);
+        }
+
+        fixture.merge(other);
+        assertEquals("Queue size not correct after merging an array queue", 20, fixture.size());
+        for (int i = 1; i <= 20; i++) {
+            assertEquals("Array queue not merged in order", new Integer(i), fixture.poll());
+        }
+        for (int i = 11; i <= 20; i++) {
+            assertEquals("Array queue order not restored", new Integer(i), other.poll());
+        }
+    }
+
     /**
      * Test of the printList method, for class SinglyLinkedList
      */
@@ -373,4 +453,74 @@ public class LinkedDequeTest {
 
     }
 
+    /**
+     * Test of offerAll method, for class LinkedDeque.
+     */
+    @Test
+    public void testOfferAll() {
+        fixture.offer(0);
+        fixture.offerAll(new Integer[] {1, null, 2, 3});
+        fixture.offerAll(Arrays.asList(4, null, 5));
+        fixture.offerAll(new Integer[0]);
+        assertEquals("size is not correctly updated after offerAll", 6, fixture.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals("offerAll did not keep the elements in order", new Integer(i), fixture.poll());
+        }
+        assertTrue(fixture.isEmpty());
+    }
+
+    /**
+     * Test of pollN method, for class LinkedDeque.
+     */
+    @Test
+    public void testPollN() {
+        final ArrayList<Integer> polled = new ArrayList<>();
+        assertEquals("Polled from an empty queue", 0, fixture.pollN(3, polled::add));
+        for (int i = 0; i < 5; i++) {
+            fixture.offer(i);
+        }
+        assertEquals(3, fixture.pollN(3, polled::add));
+        assertEquals("size is not correctly updated after pollN", 2, fixture.size());
+        assertEquals(new Integer(3), fixture.peek());
+        assertEquals("Polled more than the queue held", 2, fixture.pollN(10, polled::add));
+        assertTrue(fixture.isEmpty());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), polled);
+
+        fixture.offer(5);
+        assertEquals("Queue not usable after being emptied by pollN", new Integer(5), fixture.poll());
+    }
+
+    /**
+     * Test of drainTo method, for class LinkedDeque.
+     */
+    @Test
+    public void testDrainTo() {
+        for (int i = 0; i < 5; i++) {
+            fixture.offer(i);
+        }
+        ArrayList<Integer> drained = new ArrayList<>();
+        assertEquals(0, fixture.drainTo(drained, -1));
+        assertEquals(4, fixture.drainTo(drained, 4));
+        assertEquals(Arrays.asList(0, 1, 2, 3), drained);
+        assertEquals(new Integer(4), fixture.poll());
+    }
+
+    /**
+     * Test of iterator and stream methods, for class LinkedDeque.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 100; i++) {
+            fixture.offer(i);
+        }
+        int expected = 0;
+        for (Integer element : fixture) {
+            assertEquals("Iterator not in poll order", new Integer(expected++), element);
+        }
+        assertEquals(100, expected);
+        assertEquals("Parallel stream missed or repeated elements", 4950,
+                fixture.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals("Iterating changed the queue", 100, fixture.size());
+        assertEquals(new Integer(0), fixture.peek());
+    }
 }
@@ -3,6 +3,8 @@ package edu.isu.cs2235.structures.impl;
 import edu.isu.cs2235.structures.Queue;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -184,6 +186,42 @@ public class LinkedQueueTest {
         assertFalse("Queue on which transfer was called is empty, when transfer to queue is null", fixture.isEmpty());
     }
 
+    @Test
+    public void testTransfer_3() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new LinkedDeque<>();
+        other.offer(0);
+        fixture.transfer(other);
+        assertTrue("Queue on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        assertEquals("Other queue size not correct after transfer", 11, other.size());
+        assertEquals("Transfer disturbed the other queue's contents", new Integer(0), other.poll());
+        for (int i = 10; i > 0; i--) {
+            assertEquals("Order in transfer to queue is not reversed", new Integer(i), other.poll());
+        }
+
+        fixture.offer(1);
+        fixture.offer(2);
+        assertEquals("Queue not usable after transfer", 2, fixture.size());
+        assertEquals(new Integer(1), fixture.poll());
+    }
+
+    @Test
+    public void testTransfer_4() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new ArrayQueue<>();
+        fixture.transfer(other);
+        assertTrue("Queue on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        for (int i = 10; i > 0; i--) {
+            assertEquals("Order in transfer to an array queue is not reversed", new Integer(i), other.poll());
+        }
+    }
+
     /**
      * Test of reverse method, of class LinkedQueue.
      */
@@ -272,6 +310,47 @@ public class LinkedQueueTest {
 	    assertEquals("Other queue order not restored", new Integer(i), other.poll());
     }
 
+    @Test
+    public void testMerge_5() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new LinkedDeque<>();
+        for (int i = 11; i <= 20; i++) {
+            other.offer(i);
+        }
+
+        fixture.merge(other);
+        other.poll();
+        other.offer(99);
+        assertEquals("Changing the merged queue changed this queue", 20, fixture.size());
+        for (int i = 1; i <= 20; i++) {
+            assertEquals("Merged contents not copied", new Integer(i), fixture.poll());
+        }
+    }
+
+    @Test
+    public void testMerge_6() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new ArrayQueue<>();
+        for (int i = 11; i <= 20; i++) {
+            other.offer(i);
+        }
+
+        fixture.merge(other);
+        assertEquals("Queue size not correct after merging an array queue", 20, fixture.size());
+        for (int i = 1; i <= 20; i++) {
+            assertEquals("Array queue not merged in order", new Integer(i), fixture.poll());
+        }
+        for (int i = 11; i <= 20; i++) {
+            assertEquals("Array queue order not restored", new Integer(i), other.poll());
+        }
+    }
+
     /**
      * Test of the printList method, for class SinglyLinkedList
      */
@@ -298,4 +377,91 @@ public class LinkedQueueTest {
 
     }
 
+    /**
+     * Test of a LinkedQueue that recycles its nodes.
+     */
+    @Test
+    public void testNodePool() {
+        Queue<Integer> pooled = new LinkedQueue<>(4);
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 8; i++) {
+                pooled.offer(round * 8 + i);
+            }
+            for (int i = 0; i < 8; i++) {
+                assertEquals("Recycled nodes broke FIFO order", new Integer(round * 8 + i), pooled.poll());
+            }
+            assertTrue(pooled.isEmpty());
+        }
+    }
+
+    /**
+     * Test of offerAll method, for class LinkedQueue.
+     */
+    @Test
+    public void testOfferAll() {
+        fixture.offer(0);
+        fixture.offerAll(new Integer[] {1, null, 2, 3});
+        fixture.offerAll(Arrays.asList(4, null, 5));
+        fixture.offerAll(new Integer[0]);
+        assertEquals("size is not correctly updated after offerAll", 6, fixture.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals("offerAll did not keep the elements in order", new Integer(i), fixture.poll());
+        }
+        assertTrue(fixture.isEmpty());
+    }
+
+    /**
+     * Test of pollN method, for class LinkedQueue.
+     */
+    @Test
+    public void testPollN() {
+        final ArrayList<Integer> polled = new ArrayList<>();
+        assertEquals("Polled from an empty queue", 0, fixture.pollN(3, polled::add));
+        for (int i = 0; i < 5; i++) {
+            fixture.offer(i);
+        }
+        assertEquals(3, fixture.pollN(3, polled::add));
+        assertEquals("size is not correctly updated after pollN", 2, fixture.size());
+        assertEquals(new Integer(3), fixture.peek());
+        assertEquals("Polled more than the queue held", 2, fixture.pollN(10, polled::add));
+        assertTrue(fixture.isEmpty());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), polled);
+
+        fixture.offer(5);
+        assertEquals("Queue not usable after being emptied by pollN", new Integer(5), fixture.poll());
+    }
+
+    /**
+     * Test of drainTo method, for class LinkedQueue.
+     */
+    @Test
+    public void testDrainTo() {
+        for (int i = 0; i < 5; i++) {
+            fixture.offer(i);
+        }
+        ArrayList<Integer> drained = new ArrayList<>();
+        assertEquals(0, fixture.drainTo(drained, -1));
+        assertEquals(4, fixture.drainTo(drained, 4));
+        assertEquals(Arrays.asList(0, 1, 2, 3), drained);
+        assertEquals(new Integer(4), fixture.poll());
+    }
+
+    /**
+     * Test of iterator and stream methods, for class LinkedQueue.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 100; i++) {
+            fixture.offer(i);
+        }
+        int expected = 0;
+        for (Integer element : fixture) {
+            assertEquals("Iterator not in poll order", new Integer(expected++), element);
+        }
+        assertEquals(100, expected);
+        assertEquals("Parallel stream missed or repeated elements", 4950,
+                fixture.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals("Iterating changed the queue", 100, fixture.size());
+        assertEquals(new Integer(0), fixture.peek());
+    }
 }
@@ -3,6 +3,8 @@ package edu.isu.cs2235.structures.impl;
 import edu.isu.cs2235.structures.Stack;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -184,6 +186,42 @@ public class LinkedStackTest {
         assertFalse("Stack on which transfer was called is empty, when transfer to stack is null", fixture.isEmpty());
     }
 
+    @Test
+    public void testTransfer_3() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.push(i);
+        }
+
+        Stack<Integer> other = new LinkedStack<>();
+        other.push(0);
+        fixture.transfer(other);
+        assertTrue("Stack on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        assertEquals("Other stack size not correct after transfer", 11, other.size());
+        for (int i = 1; i <= 10; i++) {
+            assertEquals("Order in transfer to stack is not reversed", new Integer(i), other.pop());
+        }
+        assertEquals("Transfer disturbed the other stack's contents", new Integer(0), other.pop());
+
+        fixture.push(1);
+        fixture.push(2);
+        assertEquals("Stack not usable after transfer", 2, fixture.size());
+        assertEquals(new Integer(2), fixture.pop());
+    }
+
+    @Test
+    public void testTransfer_4() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.push(i);
+        }
+
+        Stack<Integer> other = new ArrayStack<>();
+        fixture.transfer(other);
+        assertTrue("Stack on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        for (int i = 1; i <= 10; i++) {
+            assertEquals("Order in transfer to an array stack is not reversed", new Integer(i), other.pop());
+        }
+    }
+
     /**
      * Test of reverse method, of class LinkedStack.
      */
@@ -272,6 +310,66 @@ public class LinkedStackTest {
 	    assertEquals("Other stack order and contents not preserved after merge", new Integer(i), other.pop());
     }
 
+    /**
+     * Test that a merge leaves the other stack's elements on top of this
+     * one's, in their own order, whether the other stack is linked or not.
+     */
+    @Test
+    public void testMerge_5() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.push(i);
+        }
+
+        Stack<Integer> other = new LinkedStack<>();
+        for (int i = 11; i <= 20; i++) {
+            other.push(i);
+        }
+
+        fixture.merge(other);
+        other.pop();
+        other.push(99);
+        assertEquals("Changing the merged stack changed this stack", 20, fixture.size());
+        for (int i = 20; i > 0; i--) {
+            assertEquals("Merged contents not on top in their own order", new Integer(i), fixture.pop());
+        }
+    }
+
+    @Test
+    public void testMerge_6() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.push(i);
+        }
+
+        Stack<Integer> other = new ArrayStack<>();
+        for (int i = 11; i <= 20; i++) {
+            other.push(i);
+        }
+
+        fixture.merge(other);
+        assertEquals("Stack size not correct after a merge", 20, fixture.size());
+        for (int i = 20; i > 0; i--) {
+            assertEquals("Merged contents not on top in their own order", new Integer(i), fixture.pop());
+        }
+        for (int i = 20; i > 10; i--) {
+            assertEquals("Other stack order and contents not preserved after merge", new Integer(i), other.pop());
+        }
+    }
+
+    @Test
+    public void testMerge_7() {
+        for (int i = 1; i <= 3; i++) {
+            fixture.push(i);
+        }
+
+        fixture.merge(fixture);
+        assertEquals("Stack size not correct after merging a stack into itself", 6, fixture.size());
+        for (int j = 1; j <= 2; j++) {
+            for (int i = 3; i > 0; i--) {
+                assertEquals("Self merge did not repeat the stack on top", new Integer(i), fixture.pop());
+            }
+        }
+    }
+
     /**
      * Test of the printList method, for class SinglyLinkedList
      */
@@ -298,4 +396,59 @@ public class LinkedStackTest {
 
     }
 
+    /**
+     * Test of pushAll method, for class LinkedStack.
+     */
+    @Test
+    public void testPushAll() {
+        fixture.push(0);
+        fixture.pushAll(new Integer[] {1, null, 2, 3});
+        fixture.pushAll(Arrays.asList(4, null, 5));
+        fixture.pushAll(new Integer[0]);
+        assertEquals("size is not correctly updated after pushAll", 6, fixture.size());
+        for (int i = 5; i >= 0; i--) {
+            assertEquals("pushAll did not leave the last element on top", new Integer(i), fixture.pop());
+        }
+        assertTrue(fixture.isEmpty());
+    }
+
+    /**
+     * Test of popN and drainTo methods, for class LinkedStack.
+     */
+    @Test
+    public void testPopN() {
+        final ArrayList<Integer> popped = new ArrayList<>();
+        assertEquals("Popped from an empty stack", 0, fixture.popN(3, popped::add));
+        for (int i = 0; i < 5; i++) {
+            fixture.push(i);
+        }
+        assertEquals(3, fixture.popN(3, popped::add));
+        assertEquals("size is not correctly updated after popN", 2, fixture.size());
+        assertEquals(new Integer(1), fixture.peek());
+        assertEquals("Popped more than the stack held", 2, fixture.drainTo(popped, 10));
+        assertTrue(fixture.isEmpty());
+        assertEquals(Arrays.asList(4, 3, 2, 1, 0), popped);
+
+        fixture.push(5);
+        assertEquals("Stack not usable after being emptied by popN", new Integer(5), fixture.pop());
+    }
+
+    /**
+     * Test of iterator and stream methods, for class LinkedStack.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 100; i++) {
+            fixture.push(i);
+        }
+        int expected = 99;
+        for (Integer element : fixture) {
+            assertEquals("Iterator not in pop order", new Integer(expected--), element);
+        }
+        assertEquals(-1, expected);
+        assertEquals("Parallel stream missed or repeated elements", 4950,
+                fixture.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals("Iterating changed the stack", 100, fixture.size());
+        assertEquals(new Integer(99), fixture.peek());
+    }
 }
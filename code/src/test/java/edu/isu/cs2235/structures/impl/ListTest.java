@@ -0,0 +1,168 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests every List implementation has to pass. Each implementation's test
+ * class extends this and says which list to build in createList.
+ *
+ * @author Brigham Campbell
+ */
+public abstract class ListTest {
+
+    protected List<Integer> fixture;
+
+    /**
+     * @return a new, empty instance of the list under test.
+     */
+    protected abstract List<Integer> createList();
+
+    @Before
+    public void setUp() {
+        fixture = createList();
+    }
+
+    /**
+     * Test of get method, walking forwards and backwards.
+     */
+    @Test
+    public void testGet() {
+        for (int i = 0; i < 100; i++) {
+            fixture.addLast(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Forward scan returned the wrong element", new Integer(i), fixture.get(i));
+        }
+        for (int i = 99; i >= 0; i--) {
+            assertEquals("Backward scan returned the wrong element", new Integer(i), fixture.get(i));
+        }
+        assertNull("Get out of bounds did not return null", fixture.get(100));
+        assertNull("Get out of bounds did not return null", fixture.get(-1));
+    }
+
+    /**
+     * Test of remove method, of interface List.
+     */
+    @Test
+    public void testRemove() {
+        for (int i = 0; i < 5; i++) {
+            fixture.addLast(i);
+        }
+        assertEquals("Remove did not return the element at the index", new Integer(2), fixture.remove(2));
+        assertEquals("Size not updated after remove", 4, fixture.size());
+        assertEquals(new Integer(1), fixture.get(1));
+        assertEquals(new Integer(3), fixture.get(2));
+        assertEquals(new Integer(4), fixture.last());
+    }
+
+
+
+
+    /**
+     * Test that mixed index access and changes at both ends agree with java.util.ArrayList.
+     */
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(1024);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int op = 0; op < 20000; op++) {
+            int value = random.nextInt(1000);
+            int index = random.nextInt(expected.size() + 1);
+            switch (random.nextInt(7)) {
+                case 0:
+                    fixture.addFirst(value);
+                    expected.add(0, value);
+                    break;
+                case 1:
+                    fixture.addLast(value);
+                    expected.add(value);
+                    break;
+                case 2:
+                    assertEquals(expected.isEmpty() ? null : expected.remove(0), fixture.removeFirst());
+                    break;
+                case 3:
+                    assertEquals(expected.isEmpty() ? null : expected.remove(expected.size() - 1), fixture.removeLast());
+                    break;
+                case 4:
+                    fixture.insert(value, index);
+                    expected.add(index, value);
+                    break;
+                case 5:
+                    assertEquals(index < expected.size() ? expected.remove(index) : null, fixture.remove(index));
+                    break;
+                default:
+                    assertEquals(index < expected.size() ? expected.get(index) : null, fixture.get(index));
+            }
+            assertEquals("Size disagrees with ArrayList", expected.size(), fixture.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Contents disagree with ArrayList", expected.get(i), fixture.get(i));
+        }
+    }
+
+    /**
+     * Test of iterator method, reading every element in order without
+     * changing the list.
+     */
+    @Test
+    public void testIterator() {
+        assertFalse("Iterator of an empty list has elements", fixture.iterator().hasNext());
+        for (int i = 0; i < 200; i++) {
+            fixture.addLast(i);
+        }
+        int expected = 0;
+        for (Integer element : fixture) {
+            assertEquals("Iterator out of order", new Integer(expected++), element);
+        }
+        assertEquals(200, expected);
+        assertEquals("Iterating changed the list", 200, fixture.size());
+    }
+
+    /**
+     * Test that the iterator fails fast when the list is changed under it.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIterator_2() {
+        for (int i = 0; i < 5; i++) {
+            fixture.addLast(i);
+        }
+        Iterator<Integer> it = fixture.iterator();
+        it.next();
+        fixture.removeFirst();
+        it.next();
+    }
+
+    /**
+     * Test of spliterator method, splitting evenly and feeding streams.
+     */
+    @Test
+    public void testSpliterator() {
+        for (int i = 0; i < 1000; i++) {
+            fixture.addLast(i);
+        }
+        Spliterator<Integer> back = fixture.spliterator();
+        assertTrue("Spliterator not SIZED", back.hasCharacteristics(Spliterator.SIZED));
+        assertTrue("Spliterator not ORDERED", back.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(1000, back.getExactSizeIfKnown());
+        Spliterator<Integer> front = back.trySplit();
+        assertEquals("Split is not balanced", 500, front.estimateSize());
+        assertEquals("Split is not balanced", 500, back.estimateSize());
+        front.tryAdvance(e -> assertEquals("Prefix does not start at the front", new Integer(0), e));
+        back.tryAdvance(e -> assertEquals("Suffix does not start at the middle", new Integer(500), e));
+
+        long sum = fixture.parallelStream().mapToLong(Integer::longValue).sum();
+        assertEquals("Parallel stream missed or repeated elements", 999L * 1000 / 2, sum);
+        assertEquals(Arrays.asList(0, 1, 2), fixture.stream().limit(3).collect(Collectors.toList()));
+        assertEquals("Streaming changed the list", 1000, fixture.size());
+    }
+}
@@ -0,0 +1,335 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.Queue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class LockFreeQueueTest {
+
+    private static final int THREADS = 4;
+    private static final int PER_THREAD = 100000;
+
+    private LockFreeQueue<Integer> fixture;
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() {
+        fixture = new LockFreeQueue<>();
+        pool = Executors.newFixedThreadPool(2 * THREADS);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test of offer, peek and poll methods, of class LockFreeQueue.
+     */
+    @Test
+    public void testOfferPoll() {
+        assertNull("Poll of an empty queue did not return null", fixture.poll());
+        assertNull("Peek of an empty queue did not return null", fixture.peek());
+        fixture.offer(null);
+        assertTrue("Offering null added an element", fixture.isEmpty());
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+        assertEquals("size is not correctly updated after offers", 10, fixture.size());
+        assertEquals("Peek did not return the first element", new Integer(1), fixture.peek());
+        for (int i = 1; i <= 10; i++) {
+            assertEquals("Queue did not poll in FIFO order", new Integer(i), fixture.poll());
+        }
+        assertTrue(fixture.isEmpty());
+        assertEquals(0, fixture.size());
+    }
+
+    /**
+     * Test of offerAll method, of class LockFreeQueue.
+     */
+    @Test
+    public void testOfferAll() {
+        fixture.offer(0);
+        fixture.offerAll(new Integer[] {1, null, 2});
+        fixture.offerAll(Arrays.asList(3, 4));
+        fixture.offerAll(new Integer[] {null});
+        assertEquals("size is not correctly updated after offerAll", 5, fixture.size());
+        List<Integer> polled = new ArrayList<>();
+        assertEquals(5, fixture.drainTo(polled, 10));
+        assertEquals("offerAll did not keep the elements in order", Arrays.asList(0, 1, 2, 3, 4), polled);
+        fixture.offer(5);
+        assertEquals(1, fixture.size());
+    }
+
+    /**
+     * Test that batches offered concurrently each land in one unbroken run.
+     */
+    @Test
+    public void testConcurrentOfferAll() throws Exception {
+        final int batch = 10;
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> producers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            producers.add(pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    Integer[] elements = new Integer[batch];
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i += batch) {
+                        for (int j = 0; j < batch; j++) {
+                            elements[j] = thread * PER_THREAD + i + j;
+                        }
+                        fixture.offerAll(elements);
+                    }
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+
+        assertEquals(THREADS * PER_THREAD, fixture.size());
+        Integer first;
+        while ((first = fixture.poll()) != null) {
+            assertEquals("Batch does not start on a batch boundary", 0, first % batch);
+            for (int j = 1; j < batch; j++) {
+                assertEquals("Batch interleaved with another", new Integer(first + j), fixture.poll());
+            }
+        }
+    }
+
+    /**
+     * Test of transfer method, of class LockFreeQueue.
+     */
+    @Test
+    public void testTransfer() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        Queue<Integer> other = new LinkedQueue<>();
+        fixture.transfer(other);
+        assertTrue("Queue on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        for (int i = 10; i > 0; i--) {
+            assertEquals("Order in transfer to queue is not reversed", new Integer(i), other.poll());
+        }
+    }
+
+    /**
+     * Test of reverse method, of class LockFreeQueue.
+     */
+    @Test
+    public void testReverse() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        fixture.reverse();
+        assertEquals("Queue size changed by reverse", 10, fixture.size());
+        for (int i = 10; i > 0; i--) {
+            assertEquals("Queue order not reversed after reverse call", new Integer(i), fixture.poll());
+        }
+    }
+
+    /**
+     * Test of merge method, of class LockFreeQueue.
+     */
+    @Test
+    public void testMerge() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        LockFreeQueue<Integer> other = new LockFreeQueue<>();
+        for (int i = 11; i <= 20; i++) {
+            other.offer(i);
+        }
+        other.poll();
+        other.offer(21);
+
+        fixture.merge(other);
+        fixture.merge(new LinkedQueue<Integer>());
+        assertEquals("Queue size not correct after a merge", 20, fixture.size());
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(new Integer(i), fixture.poll());
+        }
+        for (int i = 12; i <= 21; i++) {
+            assertEquals("Merged queue's order not preserved", new Integer(i), fixture.poll());
+            assertEquals("Merged queue's contents not restored", new Integer(i), other.poll());
+        }
+    }
+
+    @Test
+    public void testMerge_2() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+
+        fixture.merge(fixture);
+        assertEquals("Merging a queue into itself did not double it", 20, fixture.size());
+        for (int j = 1; j <= 2; j++) {
+            for (int i = 1; i <= 10; i++) {
+                assertEquals(new Integer(i), fixture.poll());
+            }
+        }
+    }
+
+    /**
+     * Test that with several producers and consumers every element offered is
+     * polled exactly once, and each producer's elements come out in the order
+     * they went in.
+     */
+    @Test
+    public void testConcurrentOfferPoll() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger remaining = new AtomicInteger(THREADS * PER_THREAD);
+        List<Future<int[]>> consumers = new ArrayList<>();
+
+        for (int p = 0; p < THREADS; p++) {
+            final int producer = p;
+            pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        fixture.offer(producer * PER_THREAD + i);
+                    }
+                    return null;
+                }
+            });
+        }
+        for (int c = 0; c < THREADS; c++) {
+            consumers.add(pool.submit(new Callable<int[]>() {
+                @Override
+                public int[] call() throws Exception {
+                    // seen[v] counts how often value v was polled by this consumer
+                    int[] seen = new int[THREADS * PER_THREAD];
+                    int[] lastFromProducer = new int[THREADS];
+                    Arrays.fill(lastFromProducer, -1);
+                    start.await();
+                    while (remaining.get() > 0) {
+                        Integer value = fixture.poll();
+                        if (value == null)
+                            continue;
+                        remaining.decrementAndGet();
+                        int producer = value / PER_THREAD;
+                        if (value <= lastFromProducer[producer])
+                            throw new AssertionError("Producer " + producer + "'s elements polled out of order");
+                        lastFromProducer[producer] = value;
+                        seen[value]++;
+                    }
+                    return seen;
+                }
+            }));
+        }
+
+        start.countDown();
+        int[] total = new int[THREADS * PER_THREAD];
+        for (Future<int[]> consumer : consumers) {
+            int[] seen = consumer.get();
+            for (int v = 0; v < total.length; v++) {
+                total[v] += seen[v];
+            }
+        }
+        for (int v = 0; v < total.length; v++) {
+            assertEquals("Element " + v + " not polled exactly once", 1, total[v]);
+        }
+        assertTrue("Queue not empty after every element was polled", fixture.isEmpty());
+        assertEquals(0, fixture.size());
+    }
+
+    /**
+     * Test that peek and size stay consistent while other threads offer and poll.
+     */
+    @Test
+    public void testConcurrentPeekSize() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    // every thread polls one element for each it offers
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        fixture.offer(i);
+                        if (fixture.poll() == null)
+                            throw new AssertionError("Poll found the queue empty after an offer");
+                    }
+                    return null;
+                }
+            }));
+        }
+        Future<Void> observer = pool.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                start.await();
+                for (int i = 0; i < PER_THREAD; i++) {
+                    int size = fixture.size();
+                    if (size < 0 || size > THREADS)
+                        throw new AssertionError("Size out of range under contention: " + size);
+                    Integer first = fixture.peek();
+                    if (first != null && (first < 0 || first >= PER_THREAD))
+                        throw new AssertionError("Peek returned an element never offered: " + first);
+                }
+                return null;
+            }
+        });
+
+        start.countDown();
+        for (Future<Void> worker : workers) {
+            worker.get();
+        }
+        observer.get();
+        assertTrue("Queue not empty after equal offers and polls", fixture.isEmpty());
+        assertNull(fixture.peek());
+    }
+
+    /**
+     * Test of iterator and stream methods, skipping elements polled while
+     * iterating.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 10; i++) {
+            fixture.offer(i);
+        }
+        Iterator<Integer> it = fixture.iterator();
+        assertEquals(new Integer(0), it.next());
+        assertEquals(new Integer(1), it.next());
+        for (int i = 0; i < 4; i++) {
+            fixture.poll();
+        }
+        // the next element was already read when 1 was returned
+        assertEquals(new Integer(2), it.next());
+        assertEquals("Iterator returned a polled element", new Integer(4), it.next());
+        fixture.offer(10);
+        int expected = 5;
+        while (it.hasNext()) {
+            assertEquals("Iterator not in poll order", new Integer(expected++), it.next());
+        }
+        assertEquals(11, expected);
+        assertEquals("Parallel stream missed or repeated elements", 49,
+                fixture.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(7, fixture.size());
+    }
+}
@@ -0,0 +1,69 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Runs the SpscArrayQueue suite against MpscArrayQueue, plus tests with
+ * several producers.
+ *
+ * @author Brigham Campbell
+ */
+public class MpscArrayQueueTest extends SpscArrayQueueTest {
+
+    private static final int PRODUCERS = 4;
+
+    @Override
+    protected RingBufferQueue<Integer> createQueue(int capacity, WaitStrategy waitStrategy) {
+        return new MpscArrayQueue<>(capacity, waitStrategy);
+    }
+
+    /**
+     * Test that with several producers every element arrives exactly once and
+     * each producer's elements, single and batched, arrive in order.
+     */
+    @Test
+    public void testMultipleProducers() throws Exception {
+        final RingBufferQueue<Integer> queue = createQueue(64, WaitStrategy.YIELD);
+        final int perProducer = HANDOFFS / PRODUCERS;
+        List<Future<?>> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int producer = p;
+            producers.add(pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    Integer[] batch = new Integer[10];
+                    for (int i = 0; i < perProducer; ) {
+                        if (producer % 2 == 0) {
+                            queue.offer(producer * perProducer + i++);
+                        } else {
+                            for (int j = 0; j < batch.length; j++) {
+                                batch[j] = producer * perProducer + i++;
+                            }
+                            queue.offerAll(batch);
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        int[] next = new int[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            next[p] = p * perProducer;
+        }
+        for (int i = 0; i < PRODUCERS * perProducer; i++) {
+            int value = queue.take();
+            int producer = value / perProducer;
+            assertEquals("Producer " + producer + "'s elements out of order", next[producer]++, value);
+        }
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,45 @@
+package edu.isu.cs2235.structures.impl;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Runs the DoublyLinkedList suite against a list that recycles its nodes,
+ * plus tests of the recycling itself.
+ *
+ * @author Brigham Campbell
+ */
+public class PooledDoublyLinkedListTest extends DoublyLinkedListTest {
+
+    @Override
+    protected DoublyLinkedList<Integer> createList() {
+        return new DoublyLinkedList<>(8);
+    }
+
+    /**
+     * Test that elements added after removals land in the right places when
+     * the nodes they get were recycled.
+     */
+    @Test
+    public void testRecycledNodes() {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 20; i++) {
+                fixture.addLast(i);
+            }
+            fixture.insert(100, 10);
+            assertEquals(new Integer(100), fixture.remove(10));
+            for (int i = 0; i < 10; i++) {
+                assertEquals("Recycled node changed an element", new Integer(i), fixture.removeFirst());
+                assertEquals("Recycled node changed an element", new Integer(19 - i), fixture.removeLast());
+            }
+            assertTrue(fixture.isEmpty());
+            assertNull("Emptied list still has a first element", fixture.first());
+            assertNull("Emptied list still has a last element", fixture.last());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor() {
+        new DoublyLinkedList<Integer>(-1);
+    }
+}
@@ -0,0 +1,220 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class SpscArrayQueueTest {
+
+    static final int HANDOFFS = 200000;
+
+    protected RingBufferQueue<Integer> fixture;
+    protected ExecutorService pool;
+
+    /**
+     * @param capacity     capacity of the queue
+     * @param waitStrategy how the queue waits
+     * @return a new, empty instance of the queue under test. Other ring buffer
+     * queues reuse this suite by overriding it.
+     */
+    protected RingBufferQueue<Integer> createQueue(int capacity, WaitStrategy waitStrategy) {
+        return new SpscArrayQueue<>(capacity, waitStrategy);
+    }
+
+    @Before
+    public void setUp() {
+        fixture = createQueue(8, WaitStrategy.YIELD);
+        pool = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test of the constructor, rounding the capacity up to a power of two.
+     */
+    @Test
+    public void testCapacity() {
+        assertEquals(8, fixture.capacity());
+        assertEquals(1, createQueue(1, WaitStrategy.YIELD).capacity());
+        assertEquals(16, createQueue(9, WaitStrategy.YIELD).capacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacity_2() {
+        createQueue(0, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Test of tryOffer, peek and poll methods, wrapping around the ring.
+     */
+    @Test
+    public void testTryOfferPoll() {
+        assertNull("Poll of an empty queue did not return null", fixture.poll());
+        assertNull("Peek of an empty queue did not return null", fixture.peek());
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue("Offer refused with room left", fixture.tryOffer(round * 8 + i));
+            }
+            assertFalse("Offer accepted into a full queue", fixture.tryOffer(99));
+            assertEquals("size is not correctly updated after offers", 8, fixture.size());
+            assertEquals(new Integer(round * 8), fixture.peek());
+            for (int i = 0; i < 8; i++) {
+                assertEquals("Queue did not poll in FIFO order", new Integer(round * 8 + i), fixture.poll());
+            }
+            assertTrue(fixture.isEmpty());
+        }
+        assertTrue("Offering null did not count as inserted", fixture.tryOffer(null));
+        assertTrue("Offering null added an element", fixture.isEmpty());
+    }
+
+    /**
+     * Test of tryOfferAll and drainTo methods.
+     */
+    @Test
+    public void testTryOfferAllDrainTo() {
+        Integer[] elements = {1, null, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals("Batch did not stop when the queue filled", 9, fixture.tryOfferAll(elements, 0, elements.length));
+        assertEquals(8, fixture.size());
+        assertEquals("Batch offered into a full queue", 0, fixture.tryOfferAll(elements, 9, 2));
+
+        ArrayList<Integer> drained = new ArrayList<>();
+        assertEquals(3, fixture.drainTo(drained, 3));
+        assertEquals(2, fixture.tryOfferAll(elements, 9, 2));
+        assertEquals(7, fixture.drainTo(drained, 100));
+        assertEquals("Nothing to drain from an empty queue", 0, fixture.drainTo(drained, 100));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Batches out of order", new Integer(i + 1), drained.get(i));
+        }
+        assertEquals(10, drained.size());
+    }
+
+    /**
+     * Test of transfer, reverse and merge methods.
+     */
+    @Test
+    public void testTransferReverseMerge() {
+        for (int i = 1; i <= 4; i++) {
+            fixture.offer(i);
+        }
+        fixture.reverse();
+        assertEquals("Reverse changed the size", 4, fixture.size());
+        assertEquals("Queue order not reversed after reverse call", new Integer(4), fixture.peek());
+
+        fixture.merge(fixture);
+        assertEquals("Merging a queue into itself did not double it", 8, fixture.size());
+        try {
+            fixture.merge(fixture);
+            fail("Merge past capacity did not throw");
+        } catch (IllegalStateException expected) {
+            assertEquals("Failed merge changed the queue", 8, fixture.size());
+        }
+
+        LinkedQueue<Integer> other = new LinkedQueue<>();
+        fixture.transfer(other);
+        assertTrue("Queue on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        for (int j = 0; j < 2; j++) {
+            for (int i = 1; i <= 4; i++) {
+                assertEquals("Order in transfer to queue is not reversed", new Integer(i), other.poll());
+            }
+        }
+    }
+
+    /**
+     * Test that a producer and consumer thread hand elements across in order
+     * with every wait strategy.
+     */
+    @Test
+    public void testHandoff() throws Exception {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            // two spinning threads sharing one core only make progress when preempted
+            if (strategy == WaitStrategy.BUSY_SPIN && Runtime.getRuntime().availableProcessors() < 2)
+                continue;
+            final RingBufferQueue<Integer> queue = createQueue(64, strategy);
+            Future<?> producer = pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int i = 0; i < HANDOFFS; i++) {
+                        queue.offer(i);
+                    }
+                    return null;
+                }
+            });
+            for (int i = 0; i < HANDOFFS; i++) {
+                assertEquals("Handoff out of order with " + strategy, new Integer(i), queue.take());
+            }
+            producer.get();
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    /**
+     * Test that batches handed across threads arrive whole and in order.
+     */
+    @Test
+    public void testBatchHandoff() throws Exception {
+        final RingBufferQueue<Integer> queue = createQueue(64, WaitStrategy.YIELD);
+        Future<?> producer = pool.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                Integer[] batch = new Integer[50];
+                for (int i = 0; i < HANDOFFS; i += batch.length) {
+                    for (int j = 0; j < batch.length; j++) {
+                        batch[j] = i + j;
+                    }
+                    queue.offerAll(batch);
+                }
+                return null;
+            }
+        });
+        ArrayList<Integer> received = new ArrayList<>();
+        for (int attempt = 0; received.size() < HANDOFFS; attempt++) {
+            if (queue.drainTo(received, 32) == 0)
+                WaitStrategy.YIELD.idle(attempt);
+        }
+        producer.get();
+        for (int i = 0; i < HANDOFFS; i++) {
+            assertEquals("Batch handoff out of order", new Integer(i), received.get(i));
+        }
+    }
+
+    /**
+     * Test of iterator and spliterator methods, wrapping around the ring.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 5; i++) {
+            fixture.offer(i);
+            fixture.poll();
+        }
+        for (int i = 0; i < 8; i++) {
+            fixture.offer(i);
+        }
+        int expected = 0;
+        for (Integer element : fixture) {
+            assertEquals("Iterator not in poll order", new Integer(expected++), element);
+        }
+        assertEquals(8, expected);
+
+        Spliterator<Integer> back = fixture.spliterator();
+        assertEquals(8, back.getExactSizeIfKnown());
+        Spliterator<Integer> front = back.trySplit();
+        assertEquals("Split is not balanced", 4, front.estimateSize());
+        assertEquals("Parallel stream missed or repeated elements", 28,
+                fixture.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals("Iterating changed the queue", 8, fixture.size());
+    }
+}
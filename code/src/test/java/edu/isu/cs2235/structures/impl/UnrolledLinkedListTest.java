@@ -0,0 +1,100 @@
+package edu.isu.cs2235.structures.impl;
+
+import edu.isu.cs2235.structures.List;
+import java.util.ArrayList;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Runs the List suite against UnrolledLinkedList, plus tests that cross node
+ * boundaries.
+ *
+ * @author Brigham Campbell
+ */
+public class UnrolledLinkedListTest extends ListTest {
+
+    @Override
+    protected List<Integer> createList() {
+        return new UnrolledLinkedList<>();
+    }
+
+    /**
+     * Test of insert method, of class UnrolledLinkedList, splitting full nodes.
+     */
+    @Test
+    public void testInsertSplitsNodes() {
+        for (int i = 0; i < 1000; i += 2) {
+            fixture.addLast(i);
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            fixture.insert(i, i);
+        }
+        assertEquals("Size not updated after inserts", 1000, fixture.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Insert into a full node misplaced an element", new Integer(i), fixture.get(i));
+        }
+    }
+
+    /**
+     * Test of remove method, of class UnrolledLinkedList, emptying and merging nodes.
+     */
+    @Test
+    public void testRemoveMergesNodes() {
+        for (int i = 0; i < 1000; i++) {
+            fixture.addLast(i);
+        }
+        for (int i = 999; i >= 0; i -= 2) {
+            assertEquals(new Integer(i), fixture.remove(i));
+        }
+        assertEquals("Size not updated after removes", 500, fixture.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("Remove misplaced an element", new Integer(2 * i), fixture.get(i));
+        }
+        assertEquals(new Integer(0), fixture.first());
+        assertEquals(new Integer(998), fixture.last());
+        while (!fixture.isEmpty()) {
+            fixture.remove(fixture.size() / 2);
+        }
+        assertNull("Emptied list still has a first element", fixture.first());
+        assertNull("Emptied list still has a last element", fixture.last());
+    }
+
+    /**
+     * Test that a list hundreds of nodes long agrees with java.util.ArrayList.
+     */
+    @Test
+    public void testAgainstArrayList_2() {
+        Random random = new Random(2048);
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            fixture.addLast(i);
+            expected.add(i);
+        }
+        for (int op = 0; op < 20000; op++) {
+            int index = random.nextInt(expected.size() + 1);
+            switch (random.nextInt(5)) {
+                case 0:
+                    fixture.addFirst(op);
+                    expected.add(0, op);
+                    break;
+                case 1:
+                    fixture.insert(op, index);
+                    expected.add(index, op);
+                    break;
+                case 2:
+                    assertEquals(expected.remove(0), fixture.removeFirst());
+                    break;
+                case 3:
+                    assertEquals(index < expected.size() ? expected.remove(index) : null, fixture.remove(index));
+                    break;
+                default:
+                    assertEquals(index < expected.size() ? expected.get(index) : null, fixture.get(index));
+            }
+        }
+        assertEquals("Size disagrees with ArrayList", expected.size(), fixture.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Contents disagree with ArrayList", expected.get(i), fixture.get(i));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package edu.isu.cs2235.structures.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Brigham Campbell
+ */
+public class WorkStealingDequeTest {
+
+    private static final int THIEVES = 3;
+    private static final int TASKS = 200000;
+
+    private WorkStealingDeque<Integer> fixture;
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() {
+        fixture = new WorkStealingDeque<>(2);
+        pool = Executors.newFixedThreadPool(THIEVES);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test of offerFirst, peek and poll methods, growing past the initial capacity.
+     */
+    @Test
+    public void testOfferFirstPoll() {
+        assertNull("Poll of an empty deque did not return null", fixture.poll());
+        assertNull("Peek of an empty deque did not return null", fixture.peek());
+        fixture.offerFirst(null);
+        assertTrue("Offering null added an element", fixture.isEmpty());
+        for (int i = 1; i <= 100; i++) {
+            fixture.offerFirst(i);
+        }
+        assertEquals("size is not correctly updated after offers", 100, fixture.size());
+        assertEquals(new Integer(100), fixture.peek());
+        assertEquals(new Integer(1), fixture.peekLast());
+        for (int i = 100; i > 0; i--) {
+            assertEquals("Front of the deque not polled last in first out", new Integer(i), fixture.poll());
+        }
+        assertTrue(fixture.isEmpty());
+        assertNull(fixture.peekLast());
+    }
+
+    /**
+     * Test of offer and pollLast methods, mixed with the front.
+     */
+    @Test
+    public void testOfferPollLast() {
+        assertNull("PollLast of an empty deque did not return null", fixture.pollLast());
+        for (int i = 1; i <= 50; i++) {
+            fixture.offer(i);
+            fixture.offerFirst(-i);
+        }
+        assertEquals(100, fixture.size());
+        for (int i = 50; i > 0; i--) {
+            assertEquals("Back of the deque not polled in order", new Integer(i), fixture.pollLast());
+        }
+        for (int i = 50; i > 0; i--) {
+            assertEquals("Front of the deque not polled in order", new Integer(-i), fixture.poll());
+        }
+        assertNull(fixture.pollLast());
+        assertNull(fixture.poll());
+    }
+
+    /**
+     * Test of transfer, reverse and merge methods.
+     */
+    @Test
+    public void testTransferReverseMerge() {
+        for (int i = 1; i <= 10; i++) {
+            fixture.offer(i);
+        }
+        fixture.reverse();
+        for (int i = 10; i > 5; i--) {
+            assertEquals("Deque order not reversed after reverse call", new Integer(i), fixture.poll());
+        }
+
+        fixture.merge(fixture);
+        assertEquals("Merging a deque into itself did not double it", 10, fixture.size());
+        LinkedQueue<Integer> other = new LinkedQueue<>();
+        other.offer(6);
+        fixture.merge(other);
+        assertEquals(new Integer(6), other.peek());
+
+        fixture.transfer(other);
+        assertTrue("Deque on which transfer is called should be empty after the transfer", fixture.isEmpty());
+        assertEquals(new Integer(6), other.poll());
+        assertEquals("Order in transfer to queue is not reversed", new Integer(6), other.poll());
+        for (int j = 0; j < 2; j++) {
+            for (int i = 1; i <= 5; i++) {
+                assertEquals("Order in transfer to queue is not reversed", new Integer(i), other.poll());
+            }
+        }
+        assertTrue(other.isEmpty());
+    }
+
+    /**
+     * Test that while thieves steal from the back, every element the owner
+     * offers at either end is taken exactly once.
+     */
+    @Test
+    public void testConcurrentSteal() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean done = new AtomicBoolean();
+        List<Future<int[]>> thieves = new ArrayList<>();
+        for (int t = 0; t < THIEVES; t++) {
+            thieves.add(pool.submit(new Callable<int[]>() {
+                @Override
+                public int[] call() throws Exception {
+                    int[] stolen = new int[TASKS];
+                    start.await();
+                    while (!done.get() || !fixture.isEmpty()) {
+                        Integer task = fixture.pollLast();
+                        if (task != null)
+                            stolen[task]++;
+                    }
+                    return stolen;
+                }
+            }));
+        }
+
+        int[] taken = new int[TASKS];
+        start.countDown();
+        for (int i = 0; i < TASKS; i++) {
+            // mostly pushed at the front, now and then at the back
+            if (i % 7 == 0)
+                fixture.offer(i);
+            else
+                fixture.offerFirst(i);
+            if (i % 3 == 0) {
+                Integer task = fixture.poll();
+                if (task != null)
+                    taken[task]++;
+            }
+        }
+        Integer task;
+        while ((task = fixture.poll()) != null) {
+            taken[task]++;
+        }
+        done.set(true);
+
+        for (Future<int[]> thief : thieves) {
+            int[] stolen = thief.get();
+            for (int i = 0; i < TASKS; i++) {
+                taken[i] += stolen[i];
+            }
+        }
+        for (int i = 0; i < TASKS; i++) {
+            assertEquals("Element " + i + " not taken exactly once", 1, taken[i]);
+        }
+        assertTrue(fixture.isEmpty());
+    }
+
+    /**
+     * Test of iterator and stream methods, stopping at elements stolen while
+     * iterating.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 10; i++) {
+            fixture.offerFirst(i);
+        }
+        Iterator<Integer> it = fixture.iterator();
+        for (int i = 9; i > 5; i--) {
+            assertEquals("Iterator not in poll order", new Integer(i), it.next());
+        }
+        fixture.pollLast();
+        fixture.pollLast();
+        int expected = 5;
+        while (it.hasNext()) {
+            assertEquals("Iterator not in poll order", new Integer(expected--), it.next());
+        }
+        assertEquals("Iterator returned a stolen element", 1, expected);
+        assertEquals("Parallel stream missed or repeated elements", 44,
+                fixture.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(8, fixture.size());
+    }
+}